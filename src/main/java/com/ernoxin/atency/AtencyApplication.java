@@ -1,13 +1,16 @@
 package com.ernoxin.atency;
 
+import com.ernoxin.atency.config.AtencyRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import tools.jackson.databind.ObjectMapper;
 
 @SpringBootApplication
 @EnableScheduling
+@ImportRuntimeHints(AtencyRuntimeHints.class)
 public class AtencyApplication {
 
     public static void main(String[] args) {
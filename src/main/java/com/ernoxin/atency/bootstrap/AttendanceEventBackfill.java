@@ -0,0 +1,118 @@
+package com.ernoxin.atency.bootstrap;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Seeds the attendance log from daily rows written before it existed. Each row becomes one event stating
+ * the day as recorded, and the users' summaries are computed from the same rows. Users that already have
+ * events are left alone, so the backfill never rewrites history.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class AttendanceEventBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceEventBackfill.class);
+
+    static final String RECORDED_BY = "backfill";
+
+    private static final String WITHOUT_EVENTS = """
+            a.user_id between ? and ?
+            and not exists (select 1 from attendance_event e where e.user_id = a.user_id)
+            """;
+
+    private final DataSource dataSource;
+
+    @PostConstruct
+    void backfillIfEmpty() {
+        long started = System.nanoTime();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery(
+                    "select exists (select 1 from attendance_event), min(user_id), max(user_id) from attendance")) {
+                rs.next();
+                if (rs.getBoolean(1) || rs.getObject(2) == null) {
+                    return;
+                }
+                connection.setAutoCommit(false);
+                long events = backfill(connection, rs.getLong(2), rs.getLong(3));
+                connection.commit();
+                log.info("attendanceEventBackfill events={} elapsedMs={}",
+                        events, (System.nanoTime() - started) / 1_000_000);
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Attendance event backfill failed", ex);
+        }
+    }
+
+    // Runs in the caller's transaction; the summaries go first because the events end the "without events" filter.
+    static long backfill(Connection connection, long fromUserId, long toUserId) throws SQLException {
+        long count;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "select count(*) from attendance a where " + WITHOUT_EVENTS)) {
+            statement.setLong(1, fromUserId);
+            statement.setLong(2, toUserId);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                count = rs.getLong(1);
+            }
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement("""
+                insert into attendance_summary (user_id, version, present_days, absent_days, worked_seconds)
+                select a.user_id, count(*),
+                       count(*) filter (where a.status = 'PRESENT'),
+                       count(*) filter (where a.status = 'ABSENT'),
+                       coalesce(sum(a.worked_seconds) filter (where a.status = 'PRESENT'), 0)
+                from attendance a
+                where %s
+                group by a.user_id
+                on conflict (user_id) do update set version = excluded.version,
+                    present_days = excluded.present_days, absent_days = excluded.absent_days,
+                    worked_seconds = excluded.worked_seconds
+                """.formatted(WITHOUT_EVENTS))) {
+            statement.setLong(1, fromUserId);
+            statement.setLong(2, toUserId);
+            statement.executeUpdate();
+        }
+
+        long firstId = SequenceAligner.reserveIds(connection, "attendance_event_seq", count);
+        try (PreparedStatement statement = connection.prepareStatement("""
+                insert into attendance_event
+                    (id, user_id, version, date, type, check_in_time, check_out_time, status, recorded_at, recorded_by)
+                select ? + row_number() over (order by a.user_id, a.date) - 1,
+                       a.user_id,
+                       row_number() over (partition by a.user_id order by a.date),
+                       a.date,
+                       case when a.status = 'ABSENT' then 'ABSENCE' else 'CORRECTION' end,
+                       a.check_in_time,
+                       a.check_out_time,
+                       case when a.status = 'ABSENT' then null else a.status end,
+                       now(),
+                       ?
+                from attendance a
+                where %s
+                """.formatted(WITHOUT_EVENTS))) {
+            statement.setLong(1, firstId);
+            statement.setString(2, RECORDED_BY);
+            statement.setLong(3, fromUserId);
+            statement.setLong(4, toUserId);
+            return statement.executeUpdate();
+        }
+    }
+}
@@ -9,6 +9,8 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+
 
 @Component
 @RequiredArgsConstructor
@@ -16,6 +18,7 @@ public class DataInitializer implements CommandLineRunner {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final SyntheticDataSeeder syntheticDataSeeder;
 
     @Value("${app.seed.enabled:true}")
     private boolean seedEnabled;
@@ -32,6 +35,9 @@ public class DataInitializer implements CommandLineRunner {
                         .fullName("Admin User")
                         .password(passwordEncoder.encode("12345"))
                         .role(Role.ADMIN)
+                        .registeredOn(LocalDate.now())
                         .build()));
+
+        syntheticDataSeeder.seed();
     }
 }
@@ -0,0 +1,40 @@
+package com.ernoxin.atency.bootstrap;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Creates the trigram indexes behind admin search, which the schema update cannot express. Without the
+ * {@code pg_trgm} extension (e.g. when the database user may not install it) search still works, by scanning.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class SearchIndexInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexInitializer.class);
+
+    private static final List<String> INDEXES = List.of(
+            "create index if not exists idx_users_username_trgm on users using gin (lower(username) gin_trgm_ops)",
+            "create index if not exists idx_users_full_name_trgm on users using gin (lower(full_name) gin_trgm_ops)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void createIndexes() {
+        try {
+            jdbcTemplate.execute("create extension if not exists pg_trgm");
+            INDEXES.forEach(jdbcTemplate::execute);
+        } catch (DataAccessException ex) {
+            log.warn("Trigram search indexes unavailable, user search will scan reason={}", ex.getMostSpecificCause().getMessage());
+        }
+    }
+}
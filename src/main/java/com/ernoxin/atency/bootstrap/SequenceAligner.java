@@ -0,0 +1,73 @@
+package com.ernoxin.atency.bootstrap;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves id sequences past the rows already in their tables. Attendance, job run, checkpoint and calendar
+ * override ids used to come from identity columns, so on existing databases the newly created sequences would
+ * start inside the used range. Runs after the schema update and before the web server accepts requests.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class SequenceAligner {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenceAligner.class);
+
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "users_seq", "users",
+            "attendance_seq", "attendance",
+            "job_run_seq", "job_run",
+            "absence_job_checkpoint_seq", "absence_job_checkpoint",
+            "calendar_override_seq", "calendar_override");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void align() {
+        SEQUENCES.forEach((sequence, table) -> {
+            // Pooled ids are handed out as (value - increment, value], so the last value must reach max(id).
+            List<Long> values = jdbcTemplate.queryForList("""
+                    select setval('%1$s', m.max_id)
+                    from (select max(id) as max_id from %2$s) m, %1$s s
+                    where m.max_id > s.last_value or (m.max_id = s.last_value and not s.is_called)
+                    """.formatted(sequence, table), Long.class);
+            if (!values.isEmpty()) {
+                log.info("sequenceAligned sequence={} table={} value={}", sequence, table, values.getFirst());
+            }
+        });
+    }
+
+    // Hibernate hands out ids in blocks ending at each nextval; jumping the sequence past our range
+    // guarantees no later block overlaps the ids written here.
+    static long reserveIds(Connection connection, String sequence, long count) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                select setval(s.sequencename::regclass, nextval(s.sequencename::regclass) + ? + s.increment_by),
+                       s.increment_by
+                from pg_sequences s
+                where s.schemaname = current_schema() and s.sequencename = ?
+                """)) {
+            statement.setLong(1, count);
+            statement.setString(2, sequence);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    throw new IllegalStateException("Sequence " + sequence + " not found");
+                }
+                return rs.getLong(1) - rs.getLong(2) - count + 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.ernoxin.atency.bootstrap;
+
+import com.ernoxin.atency.entity.AttendanceStatus;
+import com.ernoxin.atency.entity.Role;
+import com.ernoxin.atency.entity.User;
+import com.ernoxin.atency.service.CalendarService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Generates production-sized data for performance tests: {@code app.seed.users} employees named
+ * {@code <prefix>00001..} and, for each newly created one, {@code app.seed.history-days} of attendance.
+ * Rows are streamed with Postgres {@code COPY}, so millions of rows load in seconds.
+ */
+@Component
+@RequiredArgsConstructor
+public class SyntheticDataSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataSeeder.class);
+
+    private static final int FLUSH_BYTES = 1 << 16;
+    private static final int SHIFT_START_SECONDS = 8 * 3600;
+    private static final int SHIFT_SECONDS = 8 * 3600 + 30 * 60;
+    private static final double LATE_RATE = 0.1;
+    private static final double MISSING_CHECK_OUT_RATE = 0.01;
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final CalendarService calendarService;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${app.seed.users:0}")
+    private int users;
+
+    @Value("${app.seed.user-prefix:loadtest-}")
+    private String userPrefix;
+
+    @Value("${app.seed.user-password:loadtest}")
+    private String userPassword;
+
+    @Value("${app.seed.history-days:0}")
+    private int historyDays;
+
+    @Value("${app.seed.absence-rate:0.05}")
+    private double absenceRate;
+
+    @Value("${app.seed.random-seed:42}")
+    private long randomSeed;
+
+    public void seed() {
+        if (users <= 0) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+
+            List<Long> userIds = insertUsers(connection, copyManager);
+            long attendance = userIds.isEmpty() || historyDays <= 0 ? 0 : insertAttendance(connection, copyManager, userIds);
+            if (attendance > 0) {
+                AttendanceEventBackfill.backfill(connection, userIds.getFirst(), userIds.getLast());
+            }
+            connection.commit();
+            evictUserCaches();
+
+            log.info("seed users={} attendance={} historyDays={} elapsedMs={}",
+                    userIds.size(), attendance, historyDays, (System.nanoTime() - started) / 1_000_000);
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Synthetic data seeding failed", ex);
+        }
+    }
+
+    private List<Long> insertUsers(Connection connection, CopyManager copyManager) throws SQLException {
+        Set<String> existing = existingUsernames(connection);
+        List<String> usernames = new ArrayList<>();
+        for (int i = 1; i <= users; i++) {
+            String username = userPrefix + String.format("%05d", i);
+            if (!existing.contains(username)) {
+                usernames.add(username);
+            }
+        }
+        if (usernames.isEmpty()) {
+            return List.of();
+        }
+
+        long firstId = SequenceAligner.reserveIds(connection, "users_seq", usernames.size());
+        String password = passwordEncoder.encode(userPassword);
+        LocalDate registeredOn = LocalDate.now().minusDays(historyDays);
+
+        List<Long> ids = new ArrayList<>(usernames.size());
+        CopyIn copyIn = copyManager.copyIn(
+                "copy users (id, username, full_name, password, role, registered_on) from stdin");
+        StringBuilder buffer = new StringBuilder(FLUSH_BYTES + 256);
+        for (int i = 0; i < usernames.size(); i++) {
+            long id = firstId + i;
+            String username = usernames.get(i);
+            ids.add(id);
+            buffer.append(id).append('\t')
+                    .append(username).append('\t')
+                    .append("Load Test ").append(username.substring(userPrefix.length())).append('\t')
+                    .append(password).append('\t')
+                    .append(Role.EMPLOYEE.name()).append('\t')
+                    .append(registeredOn).append('\n');
+            flushIfFull(copyIn, buffer);
+        }
+        finish(copyIn, buffer);
+        return ids;
+    }
+
+    // COPY bypasses Hibernate, so cached user lookups and id queries would not see the new rows.
+    private void evictUserCaches() {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        cache.evictEntityData(User.class);
+        cache.evictNaturalIdData(User.class);
+        cache.evictQueryRegions();
+    }
+
+    private Set<String> existingUsernames(Connection connection) throws SQLException {
+        Set<String> usernames = new HashSet<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "select username from users where username like ?")) {
+            statement.setString(1, userPrefix + "%");
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    usernames.add(rs.getString(1));
+                }
+            }
+        }
+        return usernames;
+    }
+
+    private long insertAttendance(Connection connection, CopyManager copyManager, List<Long> userIds)
+            throws SQLException {
+        List<LocalDate> workingDays = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (LocalDate date = today.minusDays(historyDays); date.isBefore(today); date = date.plusDays(1)) {
+            if (calendarService.isWorkingDay(date)) {
+                workingDays.add(date);
+            }
+        }
+
+        long nextId = SequenceAligner.reserveIds(connection, "attendance_seq", (long) userIds.size() * workingDays.size());
+        SplittableRandom random = new SplittableRandom(randomSeed);
+        CopyIn copyIn = copyManager.copyIn(
+                "copy attendance (id, user_id, date, check_in_time, check_out_time, worked_seconds, status) from stdin");
+        StringBuilder buffer = new StringBuilder(FLUSH_BYTES + 256);
+        long rows = 0;
+        for (long userId : userIds) {
+            // Each employee has a habitual arrival time and reliability around the company-wide averages.
+            int habitualStart = SHIFT_START_SECONDS + (int) (gaussian(random) * 10 * 60);
+            double userAbsenceRate = absenceRate * (0.5 + random.nextDouble());
+            for (LocalDate date : workingDays) {
+                buffer.append(nextId++).append('\t').append(userId).append('\t').append(date).append('\t');
+                if (random.nextDouble() < userAbsenceRate) {
+                    buffer.append("\\N\t\\N\t0\t").append(AttendanceStatus.ABSENT.name()).append('\n');
+                } else {
+                    appendPresent(buffer, random, habitualStart);
+                }
+                rows++;
+                flushIfFull(copyIn, buffer);
+            }
+        }
+        finish(copyIn, buffer);
+        return rows;
+    }
+
+    private void appendPresent(StringBuilder buffer, SplittableRandom random, int habitualStart) {
+        int checkIn = habitualStart + (int) (gaussian(random) * 8 * 60);
+        if (random.nextDouble() < LATE_RATE) {
+            checkIn += (int) (-Math.log(1 - random.nextDouble()) * 30 * 60);
+        }
+        checkIn = Math.clamp(checkIn, 6 * 3600, 12 * 3600);
+        buffer.append(LocalTime.ofSecondOfDay(checkIn)).append('\t');
+
+        if (random.nextDouble() < MISSING_CHECK_OUT_RATE) {
+            buffer.append("\\N\t0\t");
+        } else {
+            int checkOut = Math.min(checkIn + SHIFT_SECONDS + (int) (gaussian(random) * 30 * 60), 86_399);
+            buffer.append(LocalTime.ofSecondOfDay(checkOut)).append('\t').append(checkOut - checkIn).append('\t');
+        }
+        buffer.append(AttendanceStatus.PRESENT.name()).append('\n');
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        return Math.clamp(random.nextGaussian(), -3, 3);
+    }
+
+    private static void flushIfFull(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.length() >= FLUSH_BYTES) {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+
+    private static void finish(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        copyIn.endCopy();
+    }
+}
@@ -0,0 +1,177 @@
+package com.ernoxin.atency.bootstrap;
+
+import com.ernoxin.atency.dto.AttendanceRecordDto;
+import com.ernoxin.atency.dto.BaseResponse;
+import com.ernoxin.atency.entity.Attendance;
+import com.ernoxin.atency.entity.AttendanceStatus;
+import com.ernoxin.atency.entity.User;
+import com.ernoxin.atency.logging.ReferenceIdUtil;
+import com.ernoxin.atency.security.JwtService;
+import com.ernoxin.atency.security.UserPrincipal;
+import com.ernoxin.atency.service.AttendanceService;
+import com.ernoxin.atency.util.AttendanceRecordMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Warms the instance up before it reports ready. Spring Boot switches readiness to accepting traffic only
+ * after the {@link ApplicationReadyEvent} listeners return, so a rolling deploy does not route requests here
+ * while connections are still being opened and the hot paths are still interpreted.
+ * <p>
+ * Opens the connections of every pool, runs password and token checks, maps and serializes synthetic
+ * attendance records with the mapper MVC uses, and reads the dashboard of {@code app.warm-up.username}, which
+ * loads its rows and (under {@code prod}) the user cache. A failing step is logged and does not keep the
+ * instance out of rotation.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmUp {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmUp.class);
+    private static final String REFERENCE_ID = "warm-up";
+    private static final int PASSWORD_CHECKS = 3;
+    private static final int RECORDS = 31;
+
+    private final List<HikariDataSource> pools;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+    private final AttendanceService attendanceService;
+    private final JsonMapper jsonMapper;
+
+    @Value("${app.warm-up.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.warm-up.iterations:200}")
+    private int iterations;
+
+    @Value("${app.warm-up.max-duration:20s}")
+    private Duration maxDuration;
+
+    @Value("${app.warm-up.username:admin}")
+    private String username;
+
+    // Ahead of the other ready listeners, so the startup time they report includes the warm-up.
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    void onReady(ApplicationReadyEvent event) {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        long deadline = started + maxDuration.toNanos();
+        MDC.put(ReferenceIdUtil.MDC_KEY, REFERENCE_ID);
+        try {
+            int connections = primePools();
+            checkPasswords();
+            UserPrincipal user = loadUser();
+            int rounds = 0;
+            while (rounds < iterations && System.nanoTime() < deadline) {
+                runRound(user);
+                rounds++;
+            }
+            log.info("Warm-up completed connections={} rounds={} user={} elapsedMs={}",
+                    connections, rounds, user != null ? user.getUsername() : "-",
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException | SQLException ex) {
+            log.warn("Warm-up failed, reporting ready anyway elapsedMs={} reason={}",
+                    (System.nanoTime() - started) / 1_000_000, ex.getMessage());
+        } finally {
+            MDC.remove(ReferenceIdUtil.MDC_KEY);
+        }
+    }
+
+    // Holds the idle connections of each pool at once, so Hikari opens them now instead of on first use.
+    private int primePools() throws SQLException {
+        int opened = 0;
+        for (HikariDataSource pool : pools) {
+            int size = Math.min(Math.max(pool.getMinimumIdle(), 1), pool.getMaximumPoolSize());
+            List<Connection> connections = new ArrayList<>(size);
+            try {
+                for (int i = 0; i < size; i++) {
+                    Connection connection = pool.getConnection();
+                    connections.add(connection);
+                    connection.isValid(1);
+                }
+                opened += connections.size();
+            } finally {
+                for (Connection connection : connections) {
+                    connection.close();
+                }
+            }
+        }
+        return opened;
+    }
+
+    private void checkPasswords() {
+        String hash = passwordEncoder.encode(REFERENCE_ID);
+        for (int i = 0; i < PASSWORD_CHECKS; i++) {
+            passwordEncoder.matches(REFERENCE_ID, hash);
+        }
+    }
+
+    private UserPrincipal loadUser() {
+        try {
+            return (UserPrincipal) userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException ex) {
+            log.info("Warm-up user not found, skipping dashboard reads user={}", username);
+            return null;
+        }
+    }
+
+    private void runRound(UserPrincipal user) {
+        if (user != null) {
+            String token = jwtService.generateToken(user);
+            jwtService.extractUsername(token);
+            jwtService.isTokenValid(token, user);
+            jsonMapper.writeValueAsBytes(BaseResponse.of(HttpStatus.OK, attendanceService.getMySummary(username)));
+            jsonMapper.writeValueAsBytes(BaseResponse.of(HttpStatus.OK,
+                    attendanceService.getMyRecords(username, null, null, null, RECORDS)));
+        }
+        jsonMapper.writeValueAsBytes(BaseResponse.of(HttpStatus.OK, sampleRecords()));
+    }
+
+    // In-memory rows mapped the way reads map them, so the mapper is warm even without a warm-up user.
+    private static List<AttendanceRecordDto> sampleRecords() {
+        User user = User.builder().id(0L).username("warm-up").fullName("Warm-up").build();
+        LocalDate today = LocalDate.now();
+        List<AttendanceRecordDto> records = new ArrayList<>(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            boolean present = i % 10 != 0;
+            LocalTime checkIn = LocalTime.of(8, i % 60);
+            Attendance attendance = Attendance.builder()
+                    .id((long) i)
+                    .user(user)
+                    .date(today.minusDays(i))
+                    .checkInTime(present ? checkIn : null)
+                    .checkOutTime(present ? checkIn.plusHours(8) : null)
+                    .workedSeconds(present ? 8 * 3600 : 0)
+                    .status(present ? AttendanceStatus.PRESENT : AttendanceStatus.ABSENT)
+                    .build();
+            records.add(AttendanceRecordMapper.toDto(attendance, i % 2 == 0));
+        }
+        return records;
+    }
+}
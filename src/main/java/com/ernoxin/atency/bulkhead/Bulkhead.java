@@ -0,0 +1,17 @@
+package com.ernoxin.atency.bulkhead;
+
+import java.util.Locale;
+
+/**
+ * The isolation class of a request. Each class runs on its own slice of request threads and its own
+ * connection pool, so a slow reporting query cannot hold the connections a check-in needs.
+ */
+public enum Bulkhead {
+    CRITICAL,
+    STANDARD,
+    REPORTING;
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
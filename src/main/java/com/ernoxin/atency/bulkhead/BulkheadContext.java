@@ -0,0 +1,26 @@
+package com.ernoxin.atency.bulkhead;
+
+/**
+ * The bulkhead of the request on the current thread. Threads outside a request (jobs, the outbox relay,
+ * startup) run as {@link Bulkhead#STANDARD}.
+ */
+public final class BulkheadContext {
+
+    private static final ThreadLocal<Bulkhead> CURRENT = new ThreadLocal<>();
+
+    private BulkheadContext() {
+    }
+
+    public static Bulkhead current() {
+        Bulkhead bulkhead = CURRENT.get();
+        return bulkhead != null ? bulkhead : Bulkhead.STANDARD;
+    }
+
+    static void enter(Bulkhead bulkhead) {
+        CURRENT.set(bulkhead);
+    }
+
+    static void exit() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,225 @@
+package com.ernoxin.atency.bulkhead;
+
+import com.ernoxin.atency.dto.ApiErrorResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admits API requests into their bulkhead. Check-in and check-out may wait briefly for one of a reserved set
+ * of slots; admin reads get a smaller set and are shed outright while the server is saturated, so reporting
+ * degrades before attendance writes do. Every decision is counted in {@code atency.bulkhead.requests}.
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkheadFilter.class);
+
+    private static final String API_PREFIX = "/api/";
+    private static final String ADMIN_PREFIX = "/api/admin/";
+    private static final Set<String> CRITICAL_PATHS = Set.of("/api/attendance/check-in", "/api/attendance/check-out");
+    private static final String METRIC = "atency.bulkhead.requests";
+
+    private final BulkheadRoutingDataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.bulkhead.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.bulkhead.critical.max-concurrent:50}")
+    private int criticalMaxConcurrent;
+
+    @Value("${app.bulkhead.critical.max-wait:1s}")
+    private Duration criticalMaxWait;
+
+    @Value("${app.bulkhead.reporting.max-concurrent:8}")
+    private int reportingMaxConcurrent;
+
+    @Value("${app.bulkhead.reporting.max-wait:100ms}")
+    private Duration reportingMaxWait;
+
+    @Value("${app.bulkhead.shed.in-flight:150}")
+    private int shedInFlight;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private Semaphore criticalPermits;
+    private Semaphore reportingPermits;
+
+    @PostConstruct
+    void init() {
+        this.criticalPermits = new Semaphore(criticalMaxConcurrent, true);
+        this.reportingPermits = new Semaphore(reportingMaxConcurrent, true);
+        Gauge.builder("atency.bulkhead.in_flight", inFlight, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("atency.bulkhead.active", criticalPermits, p -> criticalMaxConcurrent - p.availablePermits())
+                .tag("bulkhead", Bulkhead.CRITICAL.tag())
+                .register(meterRegistry);
+        Gauge.builder("atency.bulkhead.active", reportingPermits, p -> reportingMaxConcurrent - p.availablePermits())
+                .tag("bulkhead", Bulkhead.REPORTING.tag())
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Bulkhead bulkhead = classify(request);
+        int active = inFlight.incrementAndGet();
+        try {
+            switch (bulkhead) {
+                case CRITICAL -> admit(bulkhead, criticalPermits, criticalMaxWait, request, response, filterChain);
+                case REPORTING -> {
+                    String shedReason = shedReason(active);
+                    if (shedReason != null) {
+                        record(bulkhead, "shed", shedReason);
+                        reject(bulkhead, shedReason, request, response);
+                    } else {
+                        admit(bulkhead, reportingPermits, reportingMaxWait, request, response, filterChain);
+                    }
+                }
+                case STANDARD -> {
+                    record(bulkhead, "admitted", "none");
+                    proceed(bulkhead, request, response, filterChain);
+                }
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    static Bulkhead classify(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (HttpMethod.POST.matches(request.getMethod()) && CRITICAL_PATHS.contains(uri)) {
+            return Bulkhead.CRITICAL;
+        }
+        if (HttpMethod.GET.matches(request.getMethod()) && uri.startsWith(ADMIN_PREFIX)) {
+            return Bulkhead.REPORTING;
+        }
+        return Bulkhead.STANDARD;
+    }
+
+    // Reporting yields as soon as the request threads run short or anyone else is queueing for a connection.
+    private String shedReason(int active) {
+        if (active > shedInFlight) {
+            return "in_flight";
+        }
+        if (dataSource.pendingConnections(Bulkhead.CRITICAL) > 0
+                || dataSource.pendingConnections(Bulkhead.STANDARD) > 0) {
+            return "pool_pending";
+        }
+        return null;
+    }
+
+    // For the reactive read port, whose event loop must not wait: takes a reporting slot only if one is free
+    // right now and the servlet side is not saturated, so exports on both ports share the same slots. Returns
+    // the reason the request was refused, or null once admitted; an admitted caller must release the slot.
+    public String tryAdmitReporting() {
+        if (!enabled) {
+            return null;
+        }
+        String shedReason = shedReason(inFlight.get());
+        if (shedReason != null) {
+            record(Bulkhead.REPORTING, "shed", shedReason);
+            return shedReason;
+        }
+        if (!reportingPermits.tryAcquire()) {
+            record(Bulkhead.REPORTING, "rejected", "full");
+            return "full";
+        }
+        record(Bulkhead.REPORTING, "admitted", "none");
+        return null;
+    }
+
+    public void releaseReporting() {
+        if (enabled) {
+            reportingPermits.release();
+        }
+    }
+
+    private void admit(Bulkhead bulkhead, Semaphore permits, Duration maxWait, HttpServletRequest request,
+                       HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long started = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        Timer.builder("atency.bulkhead.wait")
+                .tag("bulkhead", bulkhead.tag())
+                .register(meterRegistry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            record(bulkhead, "rejected", "full");
+            reject(bulkhead, "full", request, response);
+            return;
+        }
+        try {
+            record(bulkhead, "admitted", "none");
+            proceed(bulkhead, request, response, filterChain);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static void proceed(Bulkhead bulkhead, HttpServletRequest request, HttpServletResponse response,
+                                FilterChain filterChain) throws ServletException, IOException {
+        BulkheadContext.enter(bulkhead);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            BulkheadContext.exit();
+        }
+    }
+
+    private void record(Bulkhead bulkhead, String outcome, String reason) {
+        meterRegistry.counter(METRIC, "bulkhead", bulkhead.tag(), "outcome", outcome, "reason", reason).increment();
+    }
+
+    private void reject(Bulkhead bulkhead, String reason, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        log.debug("Request rejected bulkhead={} reason={} method={} path={} inFlight={}",
+                bulkhead.tag(), reason, request.getMethod(), request.getRequestURI(), inFlight.get());
+        ApiErrorResponse body = ApiErrorResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "The service is busy. Please retry later.",
+                request.getRequestURI(),
+                null);
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        // Reporting clients are told to stay away longer, so they do not come straight back into the peak.
+        response.setHeader(HttpHeaders.RETRY_AFTER, bulkhead == Bulkhead.CRITICAL ? "1" : "10");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
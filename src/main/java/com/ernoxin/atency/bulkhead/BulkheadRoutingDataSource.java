@@ -0,0 +1,39 @@
+package com.ernoxin.atency.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hands out connections from the pool of the current {@link BulkheadContext}. The choice is made when a
+ * connection is acquired; connections are fetched lazily, so that is at the first statement of a transaction,
+ * and a transaction that never runs one takes no connection at all.
+ */
+public class BulkheadRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final Map<Bulkhead, HikariDataSource> pools = new EnumMap<>(Bulkhead.class);
+
+    public BulkheadRoutingDataSource(HikariDataSource standard, HikariDataSource critical,
+                                     HikariDataSource reporting) {
+        pools.put(Bulkhead.STANDARD, standard);
+        pools.put(Bulkhead.CRITICAL, critical);
+        pools.put(Bulkhead.REPORTING, reporting);
+        setTargetDataSources(new HashMap<>(pools));
+        setDefaultTargetDataSource(standard);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return BulkheadContext.current();
+    }
+
+    // Threads blocked waiting for a connection of this bulkhead's pool; zero until the pool has started.
+    public int pendingConnections(Bulkhead bulkhead) {
+        HikariPoolMXBean pool = pools.get(bulkhead).getHikariPoolMXBean();
+        return pool != null ? pool.getThreadsAwaitingConnection() : 0;
+    }
+}
@@ -0,0 +1,93 @@
+package com.ernoxin.atency.config;
+
+import com.ernoxin.atency.dto.ApiErrorResponse;
+import com.ernoxin.atency.dto.AttendanceChangeDto;
+import com.ernoxin.atency.dto.AttendanceChangesDto;
+import com.ernoxin.atency.dto.AttendanceColumnsDto;
+import com.ernoxin.atency.dto.AttendanceCorrectionRequest;
+import com.ernoxin.atency.dto.AttendanceEventDto;
+import com.ernoxin.atency.dto.AttendancePageDto;
+import com.ernoxin.atency.dto.AttendanceRecordDto;
+import com.ernoxin.atency.dto.AttendanceSearchPageDto;
+import com.ernoxin.atency.dto.AttendanceSummaryDto;
+import com.ernoxin.atency.dto.AuthResponse;
+import com.ernoxin.atency.dto.BaseResponse;
+import com.ernoxin.atency.dto.CalendarOverrideDto;
+import com.ernoxin.atency.dto.CalendarOverrideRequest;
+import com.ernoxin.atency.dto.ErrorResult;
+import com.ernoxin.atency.dto.LoginRequest;
+import com.ernoxin.atency.dto.RegisterRequest;
+import com.ernoxin.atency.dto.UserSearchResultDto;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * Reflection and resource hints for the AOT and native builds. Controller signatures are covered by
+ * Spring's own inference; these are the types it cannot see: generic {@link BaseResponse} payloads,
+ * error bodies written directly by filters, and the JJWT implementation classes the API loads by name.
+ */
+public class AtencyRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<Class<?>> JSON_TYPES = List.of(
+            BaseResponse.class,
+            ApiErrorResponse.class,
+            ErrorResult.class,
+            AuthResponse.class,
+            LoginRequest.class,
+            RegisterRequest.class,
+            AttendanceRecordDto.class,
+            AttendanceSummaryDto.class,
+            AttendancePageDto.class,
+            AttendanceColumnsDto.class,
+            AttendanceEventDto.class,
+            AttendanceCorrectionRequest.class,
+            AttendanceChangeDto.class,
+            AttendanceChangesDto.class,
+            AttendanceSearchPageDto.class,
+            UserSearchResultDto.class,
+            CalendarOverrideDto.class,
+            CalendarOverrideRequest.class);
+
+    // Loaded through io.jsonwebtoken.lang.Classes by the Jwts, Jwks and Keys entry points.
+    static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+            "io.jsonwebtoken.impl.security.JwksBridge",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer");
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Walks each type's properties, so nested DTOs and enums are covered as well.
+        bindingRegistrar.registerReflectionHints(hints.reflection(), JSON_TYPES.toArray(Class<?>[]::new));
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+        hints.resources().registerPattern("jfr/atency.jfc");
+    }
+}
@@ -0,0 +1,85 @@
+package com.ernoxin.atency.config;
+
+import com.ernoxin.atency.bulkhead.BulkheadRoutingDataSource;
+import com.ernoxin.atency.logging.QueryMetricsListener;
+import com.zaxxer.hikari.HikariDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Splits the database connections into one pool per bulkhead. The standard pool keeps the usual
+ * {@code spring.datasource.hikari} settings and serves everything outside a critical or reporting request;
+ * the other two are small and fail fast, with a statement timeout set on every connection they open.
+ * Connections reach the application through a proxy that times each statement, and are only taken from a
+ * pool once a transaction runs its first statement.
+ */
+@Configuration
+public class BulkheadDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource standardDataSource(DataSourceProperties properties) {
+        return pool(properties, "atency-standard");
+    }
+
+    @Bean
+    public HikariDataSource criticalDataSource(
+            DataSourceProperties properties,
+            @Value("${app.bulkhead.critical.pool-size:5}") int poolSize,
+            @Value("${app.bulkhead.critical.connection-timeout:2s}") Duration connectionTimeout,
+            @Value("${app.bulkhead.critical.statement-timeout:5s}") Duration statementTimeout) {
+        HikariDataSource dataSource = pool(properties, "atency-critical");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+        dataSource.setConnectionInitSql("SET statement_timeout = " + statementTimeout.toMillis());
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource reportingDataSource(
+            DataSourceProperties properties,
+            @Value("${app.bulkhead.reporting.pool-size:4}") int poolSize,
+            @Value("${app.bulkhead.reporting.connection-timeout:1s}") Duration connectionTimeout,
+            @Value("${app.bulkhead.reporting.statement-timeout:60s}") Duration statementTimeout) {
+        HikariDataSource dataSource = pool(properties, "atency-reporting");
+        dataSource.setMaximumPoolSize(poolSize);
+        // Reporting is bursty; idle connections are given back instead of being held for the next export.
+        dataSource.setMinimumIdle(1);
+        dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+        dataSource.setConnectionInitSql("SET statement_timeout = " + statementTimeout.toMillis());
+        return dataSource;
+    }
+
+    @Bean
+    public BulkheadRoutingDataSource routingDataSource(HikariDataSource standardDataSource,
+                                                       HikariDataSource criticalDataSource,
+                                                       HikariDataSource reportingDataSource) {
+        return new BulkheadRoutingDataSource(standardDataSource, criticalDataSource, reportingDataSource);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(BulkheadRoutingDataSource routingDataSource,
+                                 QueryMetricsListener queryMetricsListener) {
+        // Lazy, so a transaction rejected before its first statement never takes a pooled connection.
+        return new LazyConnectionDataSourceProxy(ProxyDataSourceBuilder.create(routingDataSource)
+                .name("atency")
+                .listener(queryMetricsListener)
+                .build());
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, String name) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,46 @@
+package com.ernoxin.atency.config;
+
+import com.ernoxin.atency.outbox.ChangeEventSink;
+import com.ernoxin.atency.outbox.FileChangeEventSink;
+import com.ernoxin.atency.outbox.WebhookChangeEventSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Chooses where the outbox relay pushes attendance changes ({@code app.outbox.sink}). With {@code none}
+ * changes are only numbered for the changes-since endpoint.
+ */
+@Configuration
+public class OutboxSinkConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.outbox.sink", havingValue = "none", matchIfMissing = true)
+    public ChangeEventSink noChangeEventSink() {
+        return changes -> {
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.outbox.sink", havingValue = "file")
+    public ChangeEventSink fileChangeEventSink(
+            JsonMapper jsonMapper,
+            @Value("${app.outbox.file.path:target/outbox/changes.jsonl}") Path path) {
+        return new FileChangeEventSink(path, jsonMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.outbox.sink", havingValue = "webhook")
+    public ChangeEventSink webhookChangeEventSink(
+            JsonMapper jsonMapper,
+            @Value("${app.outbox.webhook.url}") URI url,
+            @Value("${app.outbox.webhook.timeout:5s}") Duration timeout) {
+        return new WebhookChangeEventSink(url, timeout, jsonMapper);
+    }
+}
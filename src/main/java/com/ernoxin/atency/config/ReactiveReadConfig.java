@@ -0,0 +1,79 @@
+package com.ernoxin.atency.config;
+
+import com.ernoxin.atency.bulkhead.BulkheadFilter;
+import com.ernoxin.atency.reactive.ReactiveAdmissionFilter;
+import com.ernoxin.atency.reactive.ReactiveAttendanceReader;
+import com.ernoxin.atency.reactive.ReactiveReadHandler;
+import com.ernoxin.atency.reactive.ReactiveReadServer;
+import com.ernoxin.atency.security.JwtService;
+import com.ernoxin.atency.security.RateLimitFilter;
+import com.ernoxin.atency.service.AbsenceMode;
+import com.ernoxin.atency.service.CalendarService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.JacksonJsonDecoder;
+import org.springframework.http.codec.json.JacksonJsonEncoder;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Reactive read side for dashboards: an R2DBC pool and a Netty server on a separate port serving the
+ * high-fan-out GET endpoints. Writes, auth and admin management stay on the servlet stack. Rate limits and
+ * reporting slots are shared with the servlet filters, so the second port is not a way around them.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveReadConfig {
+
+    // The pool is deliberately not a bean: a ConnectionFactory in the context makes Boot skip the JDBC DataSource.
+    @Bean(destroyMethod = "dispose")
+    public ReactiveAttendanceReader reactiveAttendanceReader(
+            CalendarService calendarService,
+            @Value("${app.attendance.absence-mode:MATERIALIZED}") AbsenceMode absenceMode,
+            @Value("${app.reactive.r2dbc-url:}") String r2dbcUrl,
+            @Value("${spring.datasource.url}") String jdbcUrl,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${app.reactive.pool-size:20}") int poolSize) {
+        String url = r2dbcUrl.isBlank() ? jdbcUrl.replaceFirst("^jdbc:", "r2dbc:") : r2dbcUrl;
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .maxSize(poolSize)
+                .build());
+        return new ReactiveAttendanceReader(pool, calendarService, absenceMode);
+    }
+
+    @Bean
+    public ReactiveReadServer reactiveReadServer(
+            ReactiveAttendanceReader reactiveAttendanceReader,
+            JwtService jwtService,
+            RateLimitFilter rateLimitFilter,
+            BulkheadFilter bulkheadFilter,
+            MeterRegistry meterRegistry,
+            JsonMapper jsonMapper,
+            @Value("${app.reactive.port:8081}") int port,
+            @Value("${app.reactive.max-in-flight:200}") int maxInFlight) {
+        ReactiveReadHandler handler = new ReactiveReadHandler(
+                reactiveAttendanceReader, jwtService, rateLimitFilter, jsonMapper);
+        // Same mapper as the servlet side so dates, times and property order serialize identically.
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jacksonJsonEncoder(new JacksonJsonEncoder(jsonMapper));
+                    codecs.defaultCodecs().jacksonJsonDecoder(new JacksonJsonDecoder(jsonMapper));
+                })
+                .webFilter(new ReactiveAdmissionFilter(bulkheadFilter, jsonMapper, meterRegistry, maxInFlight))
+                .build();
+        return new ReactiveReadServer(RouterFunctions.toHttpHandler(handler.routes(), strategies), port);
+    }
+}
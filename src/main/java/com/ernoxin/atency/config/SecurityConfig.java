@@ -1,10 +1,13 @@
 package com.ernoxin.atency.config;
 
+import com.ernoxin.atency.bulkhead.BulkheadFilter;
 import com.ernoxin.atency.security.CustomUserDetailsService;
 import com.ernoxin.atency.security.JwtAuthenticationFilter;
+import com.ernoxin.atency.security.RateLimitFilter;
 import com.ernoxin.atency.security.RestAccessDeniedHandler;
 import com.ernoxin.atency.security.RestAuthenticationEntryPoint;
 import com.ernoxin.atency.logging.RequestTraceLoggingFilter;
+import com.ernoxin.atency.logging.StartupTimer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -28,12 +31,14 @@ import org.springframework.security.web.context.SecurityContextHolderFilter;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final BulkheadFilter bulkheadFilter;
     private final CustomUserDetailsService userDetailsService;
     private final RestAuthenticationEntryPoint restAuthenticationEntryPoint;
     private final RestAccessDeniedHandler restAccessDeniedHandler;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, RequestTraceLoggingFilter requestTraceLoggingFilter) {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -54,6 +59,8 @@ public class SecurityConfig {
                         ).permitAll()
                         .requestMatchers("/api/auth/**")
                         .permitAll()
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/attendance/**").hasAnyRole("EMPLOYEE", "ADMIN")
                         .anyRequest().authenticated()
@@ -64,7 +71,10 @@ public class SecurityConfig {
                 )
                 .authenticationProvider(authenticationProvider())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
-                .addFilterAfter(requestTraceLoggingFilter(), SecurityContextHolderFilter.class);
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+                .addFilterAfter(requestTraceLoggingFilter, SecurityContextHolderFilter.class)
+                // Ahead of the JWT filter, so even the user lookup runs on the request's own connection pool.
+                .addFilterAfter(bulkheadFilter, SecurityContextHolderFilter.class);
 
         return http.build();
     }
@@ -87,8 +97,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public RequestTraceLoggingFilter requestTraceLoggingFilter() {
-        return new RequestTraceLoggingFilter();
+    public RequestTraceLoggingFilter requestTraceLoggingFilter(StartupTimer startupTimer) {
+        return new RequestTraceLoggingFilter(startupTimer);
     }
 
     @Bean
@@ -98,4 +108,18 @@ public class SecurityConfig {
         registration.setEnabled(false);
         return registration;
     }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<BulkheadFilter> bulkheadFilterRegistration(BulkheadFilter filter) {
+        FilterRegistrationBean<BulkheadFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
 }
@@ -1,17 +1,36 @@
 package com.ernoxin.atency.controller;
 
+import com.ernoxin.atency.dto.AttendanceChangesDto;
+import com.ernoxin.atency.dto.AttendanceColumnsDto;
+import com.ernoxin.atency.dto.AttendanceCorrectionRequest;
+import com.ernoxin.atency.dto.AttendanceEventDto;
 import com.ernoxin.atency.dto.AttendanceRecordDto;
+import com.ernoxin.atency.dto.AttendanceSearchPageDto;
+import com.ernoxin.atency.dto.AttendanceSummaryDto;
 import com.ernoxin.atency.dto.BaseResponse;
+import com.ernoxin.atency.entity.AttendanceStatus;
+import com.ernoxin.atency.security.UserPrincipal;
+import com.ernoxin.atency.service.AttendanceProjectionRebuilder;
 import com.ernoxin.atency.service.AttendanceService;
+import com.ernoxin.atency.util.BaseResponseStreamWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -21,16 +40,85 @@ import java.util.List;
 public class AdminAttendanceController {
 
     private final AttendanceService attendanceService;
+    private final AttendanceProjectionRebuilder projectionRebuilder;
+    private final BaseResponseStreamWriter responseStreamWriter;
 
     @GetMapping("/all")
-    public ResponseEntity<BaseResponse<List<AttendanceRecordDto>>> getAll() {
-        List<AttendanceRecordDto> records = attendanceService.getAllRecords();
-        return ResponseEntity.ok(BaseResponse.of(HttpStatus.OK, records));
+    public void getAll(HttpServletResponse response) throws IOException {
+        responseStreamWriter.<AttendanceRecordDto>writeList(response, HttpStatus.OK,
+                attendanceService::streamAllRecords);
+    }
+
+    @GetMapping(value = "/all", produces = AttendanceColumnsDto.MEDIA_TYPE)
+    public ResponseEntity<BaseResponse<AttendanceColumnsDto>> getAllColumnar() {
+        AttendanceColumnsDto columns = attendanceService.getAllRecordsColumnar();
+        return ResponseEntity.ok(BaseResponse.of(HttpStatus.OK, columns));
+    }
+
+    @GetMapping("/present")
+    public ResponseEntity<BaseResponse<List<AttendanceRecordDto>>> getPresent() {
+        List<AttendanceRecordDto> present = attendanceService.getPresentNow();
+        return ResponseEntity.ok(BaseResponse.of(HttpStatus.OK, present));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<BaseResponse<AttendanceSearchPageDto>> search(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) AttendanceStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        AttendanceSearchPageDto page = attendanceService.search(q, from, to, status, cursor, limit);
+        return ResponseEntity.ok(BaseResponse.of(HttpStatus.OK, page));
+    }
+
+    @GetMapping("/changes-since")
+    public ResponseEntity<BaseResponse<AttendanceChangesDto>> getChangesSince(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "500") int limit) {
+        AttendanceChangesDto changes = attendanceService.getChangesSince(cursor, limit);
+        return ResponseEntity.ok(BaseResponse.of(HttpStatus.OK, changes));
+    }
+
+    @PostMapping("/projections/rebuild")
+    public ResponseEntity<BaseResponse<Void>> rebuildProjections(@RequestParam(defaultValue = "false") boolean full) {
+        projectionRebuilder.startRebuild(full);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(BaseResponse.of(HttpStatus.ACCEPTED, null));
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<BaseResponse<List<AttendanceRecordDto>>> getByUser(@PathVariable Long userId) {
-        List<AttendanceRecordDto> records = attendanceService.getRecordsByUserId(userId);
-        return ResponseEntity.ok(BaseResponse.of(HttpStatus.OK, records));
+    public void getByUser(@PathVariable Long userId, HttpServletResponse response) throws IOException {
+        responseStreamWriter.<AttendanceRecordDto>writeList(response, HttpStatus.OK,
+                sink -> attendanceService.streamRecordsByUserId(userId, sink));
+    }
+
+    @GetMapping(value = "/{userId}", produces = AttendanceColumnsDto.MEDIA_TYPE)
+    public ResponseEntity<BaseResponse<AttendanceColumnsDto>> getByUserColumnar(@PathVariable Long userId) {
+        AttendanceColumnsDto columns = attendanceService.getRecordsByUserIdColumnar(userId);
+        return ResponseEntity.ok(BaseResponse.of(HttpStatus.OK, columns));
+    }
+
+    @GetMapping("/{userId}/summary")
+    public ResponseEntity<BaseResponse<AttendanceSummaryDto>> getSummaryByUser(@PathVariable Long userId) {
+        AttendanceSummaryDto summary = attendanceService.getSummaryByUserId(userId);
+        return ResponseEntity.ok(BaseResponse.of(HttpStatus.OK, summary));
+    }
+
+    @GetMapping("/{userId}/events")
+    public ResponseEntity<BaseResponse<List<AttendanceEventDto>>> getEventsByUser(@PathVariable Long userId) {
+        List<AttendanceEventDto> events = attendanceService.getEventsByUserId(userId);
+        return ResponseEntity.ok(BaseResponse.of(HttpStatus.OK, events));
+    }
+
+    @PostMapping("/{userId}/corrections")
+    public ResponseEntity<BaseResponse<AttendanceRecordDto>> correct(
+            @PathVariable Long userId,
+            @Valid @RequestBody AttendanceCorrectionRequest request,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        AttendanceRecordDto record = attendanceService.correct(userId, request, principal.getUsername());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(BaseResponse.of(HttpStatus.CREATED, record));
     }
 }
@@ -0,0 +1,63 @@
+package com.ernoxin.atency.controller;
+
+import com.ernoxin.atency.dto.BaseResponse;
+import com.ernoxin.atency.dto.CalendarOverrideDto;
+import com.ernoxin.atency.dto.CalendarOverrideRequest;
+import com.ernoxin.atency.exception.BadRequestException;
+import com.ernoxin.atency.service.CalendarService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/calendar")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminCalendarController {
+
+    private final CalendarService calendarService;
+
+    @GetMapping("/overrides")
+    public ResponseEntity<BaseResponse<List<CalendarOverrideDto>>> getOverrides(@RequestParam int year) {
+        List<CalendarOverrideDto> overrides = calendarService.getOverrides(year);
+        return ResponseEntity.ok(BaseResponse.of(HttpStatus.OK, overrides));
+    }
+
+    @PutMapping("/overrides")
+    public ResponseEntity<BaseResponse<CalendarOverrideDto>> saveOverride(
+            @Valid @RequestBody CalendarOverrideRequest request) {
+        CalendarOverrideDto override = calendarService.saveOverride(request);
+        return ResponseEntity.ok(BaseResponse.of(HttpStatus.OK, override));
+    }
+
+    @DeleteMapping("/overrides/{date}")
+    public ResponseEntity<BaseResponse<Void>> deleteOverride(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        calendarService.deleteOverride(date);
+        return ResponseEntity.ok(BaseResponse.of(HttpStatus.OK, null));
+    }
+
+    @GetMapping("/working-days")
+    public ResponseEntity<BaseResponse<Integer>> countWorkingDays(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("From date must not be after to date");
+        }
+        return ResponseEntity.ok(BaseResponse.of(HttpStatus.OK, calendarService.countWorkingDays(from, to)));
+    }
+}
@@ -0,0 +1,32 @@
+package com.ernoxin.atency.controller;
+
+import com.ernoxin.atency.dto.BaseResponse;
+import com.ernoxin.atency.dto.UserSearchResultDto;
+import com.ernoxin.atency.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminUserController {
+
+    private final UserService userService;
+
+    @GetMapping("/search")
+    public ResponseEntity<BaseResponse<List<UserSearchResultDto>>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<UserSearchResultDto> users = userService.searchUsers(q, limit);
+        return ResponseEntity.ok(BaseResponse.of(HttpStatus.OK, users));
+    }
+}
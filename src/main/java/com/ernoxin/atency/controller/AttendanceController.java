@@ -1,19 +1,23 @@
 package com.ernoxin.atency.controller;
 
+import com.ernoxin.atency.dto.AttendancePageDto;
 import com.ernoxin.atency.dto.AttendanceRecordDto;
 import com.ernoxin.atency.dto.AttendanceSummaryDto;
 import com.ernoxin.atency.dto.BaseResponse;
 import com.ernoxin.atency.security.UserPrincipal;
 import com.ernoxin.atency.service.AttendanceService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -38,13 +42,25 @@ public class AttendanceController {
         return ResponseEntity.ok(BaseResponse.of(HttpStatus.OK, record));
     }
 
-    @GetMapping("/my-records")
-    public ResponseEntity<BaseResponse<List<AttendanceRecordDto>>> myRecords(
+    // Callers that send none of the paging parameters keep the original response: the whole history as a list.
+    @GetMapping(value = "/my-records", params = {"!from", "!to", "!cursor", "!limit"})
+    public ResponseEntity<BaseResponse<List<AttendanceRecordDto>>> allMyRecords(
             @AuthenticationPrincipal UserPrincipal principal) {
         List<AttendanceRecordDto> records = attendanceService.getMyRecords(principal.getUsername());
         return ResponseEntity.ok(BaseResponse.of(HttpStatus.OK, records));
     }
 
+    @GetMapping("/my-records")
+    public ResponseEntity<BaseResponse<AttendancePageDto>> myRecords(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cursor,
+            @RequestParam(defaultValue = "31") int limit) {
+        AttendancePageDto page = attendanceService.getMyRecords(principal.getUsername(), from, to, cursor, limit);
+        return ResponseEntity.ok(BaseResponse.of(HttpStatus.OK, page));
+    }
+
     @GetMapping("/my-summary")
     public ResponseEntity<BaseResponse<AttendanceSummaryDto>> mySummary(
             @AuthenticationPrincipal UserPrincipal principal) {
@@ -22,8 +22,13 @@ public class ApiErrorResponse {
     private Map<String, String> errors;
 
     public static ApiErrorResponse of(HttpStatus status, String message, String path, Map<String, String> errors) {
+        return of(status, message, path, errors, ReferenceIdUtil.resolveOrGenerate());
+    }
+
+    public static ApiErrorResponse of(HttpStatus status, String message, String path, Map<String, String> errors,
+                                      String referenceId) {
         return ApiErrorResponse.builder()
-                .referenceId(ReferenceIdUtil.resolveOrGenerate())
+                .referenceId(referenceId)
                 .timestamp(Instant.now().toString())
                 .status(status.value())
                 .error(status.name())
@@ -0,0 +1,25 @@
+package com.ernoxin.atency.dto;
+
+import com.ernoxin.atency.entity.AttendanceEventType;
+import com.ernoxin.atency.entity.AttendanceStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+@Builder
+public class AttendanceChangeDto {
+    private long position;
+    private AttendanceEventType type;
+    private Instant occurredAt;
+    private Long id;
+    private Long userId;
+    private LocalDate date;
+    private LocalTime checkInTime;
+    private LocalTime checkOutTime;
+    private String workedHours;
+    private AttendanceStatus status;
+}
@@ -0,0 +1,13 @@
+package com.ernoxin.atency.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class AttendanceChangesDto {
+    private List<AttendanceChangeDto> changes;
+    private long nextCursor;
+}
@@ -0,0 +1,35 @@
+package com.ernoxin.atency.dto;
+
+import com.ernoxin.atency.entity.AttendanceStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Column-oriented form of a list of attendance records. Each user appears once in {@code users};
+ * rows refer to it by index through {@code userRefs}. Dates are epoch days, times are seconds of
+ * day and a missing check-in or check-out time is encoded as {@code -1}.
+ */
+@Getter
+@Builder
+public class AttendanceColumnsDto {
+    public static final String MEDIA_TYPE = "application/vnd.atency.columnar+json";
+
+    private List<UserEntry> users;
+    private int[] userRefs;
+    private long[] ids;
+    private long[] dates;
+    private int[] checkInSeconds;
+    private int[] checkOutSeconds;
+    private long[] workedSeconds;
+    private List<AttendanceStatus> statuses;
+
+    @Getter
+    @Builder
+    public static class UserEntry {
+        private Long id;
+        private String username;
+        private String fullName;
+    }
+}
@@ -0,0 +1,24 @@
+package com.ernoxin.atency.dto;
+
+import com.ernoxin.atency.entity.AttendanceStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+@Setter
+public class AttendanceCorrectionRequest {
+
+    @NotNull
+    private LocalDate date;
+
+    @NotNull
+    private AttendanceStatus status;
+
+    private LocalTime checkInTime;
+
+    private LocalTime checkOutTime;
+}
@@ -0,0 +1,24 @@
+package com.ernoxin.atency.dto;
+
+import com.ernoxin.atency.entity.AttendanceEventType;
+import com.ernoxin.atency.entity.AttendanceStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+@Builder
+public class AttendanceEventDto {
+    private Long id;
+    private long version;
+    private LocalDate date;
+    private AttendanceEventType type;
+    private LocalTime checkInTime;
+    private LocalTime checkOutTime;
+    private AttendanceStatus status;
+    private Instant recordedAt;
+    private String recordedBy;
+}
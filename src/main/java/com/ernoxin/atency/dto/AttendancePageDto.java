@@ -0,0 +1,14 @@
+package com.ernoxin.atency.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class AttendancePageDto {
+    private List<AttendanceRecordDto> records;
+    private LocalDate nextCursor;
+}
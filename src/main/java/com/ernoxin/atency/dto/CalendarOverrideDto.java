@@ -0,0 +1,14 @@
+package com.ernoxin.atency.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class CalendarOverrideDto {
+    private LocalDate date;
+    private boolean working;
+    private String description;
+}
@@ -0,0 +1,22 @@
+package com.ernoxin.atency.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+public class CalendarOverrideRequest {
+
+    @NotNull
+    private LocalDate date;
+
+    @NotNull
+    private Boolean working;
+
+    @Size(max = 100)
+    private String description;
+}
@@ -0,0 +1,17 @@
+package com.ernoxin.atency.dto;
+
+import com.ernoxin.atency.entity.Role;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class UserSearchResultDto {
+    private Long id;
+    private String username;
+    private String fullName;
+    private Role role;
+    private LocalDate registeredOn;
+}
@@ -0,0 +1,38 @@
+package com.ernoxin.atency.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "absence_job_checkpoint",
+        uniqueConstraints = @UniqueConstraint(name = "uk_absence_checkpoint_date_shard",
+                columnNames = {"date", "shard_start"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AbsenceJobCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "absence_job_checkpoint_seq")
+    @SequenceGenerator(name = "absence_job_checkpoint_seq", sequenceName = "absence_job_checkpoint_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(name = "shard_start", nullable = false)
+    private long shardStart;
+
+    @Column(name = "shard_end", nullable = false)
+    private long shardEnd;
+
+    @Column(nullable = false)
+    private int inserted;
+
+    @Column(nullable = false)
+    private Instant completedAt;
+}
@@ -1,16 +1,16 @@
 package com.ernoxin.atency.entity;
 
-import com.ernoxin.atency.util.DurationAttributeConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
-@Table
-@Data
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_attendance_user_date", columnNames = {"user_id", "date"}),
+        indexes = @Index(name = "idx_attendance_date_id", columnList = "date, id"))
+@Getter
+@Setter
 @ToString(exclude = "user")
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,7 +18,8 @@ import java.time.LocalTime;
 public class Attendance {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attendance_seq")
+    @SequenceGenerator(name = "attendance_seq", sequenceName = "attendance_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -34,12 +35,23 @@ public class Attendance {
     @Column
     private LocalTime checkOutTime;
 
-    @Convert(converter = DurationAttributeConverter.class)
     @Column(name = "worked_seconds", nullable = false)
-    @Builder.Default
-    private Duration workedHours = Duration.ZERO;
+    private long workedSeconds;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private AttendanceStatus status;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Attendance other && id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Attendance.class.hashCode();
+    }
 }
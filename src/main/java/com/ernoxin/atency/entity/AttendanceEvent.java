@@ -0,0 +1,58 @@
+package com.ernoxin.atency.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * One entry of the append-only attendance log. Events of a user are numbered by {@code version} without
+ * gaps in commit order, which the projections use to know how far they have folded the log.
+ */
+@Entity
+@Table(name = "attendance_event",
+        uniqueConstraints = @UniqueConstraint(name = "uk_attendance_event_user_version",
+                columnNames = {"user_id", "version"}),
+        indexes = @Index(name = "idx_attendance_event_user_date", columnList = "user_id, date"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attendance_event_seq")
+    @SequenceGenerator(name = "attendance_event_seq", sequenceName = "attendance_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AttendanceEventType type;
+
+    @Column
+    private LocalTime checkInTime;
+
+    @Column
+    private LocalTime checkOutTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private AttendanceStatus status;
+
+    @Column(nullable = false)
+    private Instant recordedAt;
+
+    @Column(nullable = false, length = 100)
+    private String recordedBy;
+}
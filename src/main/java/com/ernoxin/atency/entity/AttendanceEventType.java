@@ -0,0 +1,8 @@
+package com.ernoxin.atency.entity;
+
+public enum AttendanceEventType {
+    CHECK_IN,
+    CHECK_OUT,
+    ABSENCE,
+    CORRECTION
+}
@@ -0,0 +1,64 @@
+package com.ernoxin.atency.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * A change to a daily attendance row, written in the transaction that made it and carrying the row's state
+ * afterwards. Before publishing, the relay gives messages a gap-free {@code position} in commit order, which
+ * is the cursor consumers page by and never changes once given.
+ */
+@Entity
+@Table(name = "attendance_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_attendance_outbox_position", columnNames = "position"),
+        indexes = @Index(name = "idx_attendance_outbox_published_at", columnList = "published_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceOutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attendance_outbox_seq")
+    @SequenceGenerator(name = "attendance_outbox_seq", sequenceName = "attendance_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column
+    private Long position;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AttendanceEventType type;
+
+    @Column(name = "attendance_id", nullable = false)
+    private Long attendanceId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column
+    private LocalTime checkInTime;
+
+    @Column
+    private LocalTime checkOutTime;
+
+    @Column(nullable = false)
+    private long workedSeconds;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AttendanceStatus status;
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+}
@@ -0,0 +1,38 @@
+package com.ernoxin.atency.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Latest periodic copy of a user's {@link AttendanceSummary}. A projection rebuild starts from here and
+ * only replays the events after {@code version}.
+ */
+@Entity
+@Table(name = "attendance_snapshot")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceSnapshot {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false)
+    private long presentDays;
+
+    @Column(nullable = false)
+    private long absentDays;
+
+    @Column(nullable = false)
+    private long workedSeconds;
+
+    @Column(nullable = false)
+    private Instant takenAt;
+}
@@ -0,0 +1,33 @@
+package com.ernoxin.atency.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Per-user totals projected from the attendance log, updated with each appended event. {@code version}
+ * is the last event folded in; the row is also the lock that serializes appends for its user.
+ */
+@Entity
+@Table(name = "attendance_summary")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceSummary {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false)
+    private long presentDays;
+
+    @Column(nullable = false)
+    private long absentDays;
+
+    @Column(nullable = false)
+    private long workedSeconds;
+}
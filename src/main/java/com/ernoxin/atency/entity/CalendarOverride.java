@@ -0,0 +1,29 @@
+package com.ernoxin.atency.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "calendar_override")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CalendarOverride {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "calendar_override_seq")
+    @SequenceGenerator(name = "calendar_override_seq", sequenceName = "calendar_override_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private boolean working;
+
+    @Column(length = 100)
+    private String description;
+}
@@ -0,0 +1,7 @@
+package com.ernoxin.atency.entity;
+
+public enum JobRunStatus {
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
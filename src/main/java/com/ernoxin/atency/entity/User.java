@@ -2,23 +2,32 @@ package com.ernoxin.atency.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.time.LocalDate;
 
 @Entity
 @Table(name = "users")
-@Data
-@ToString(exclude = "attendances")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-by-username")
+@Getter
+@Setter
+@ToString(exclude = "password")
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class User {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
+    @NaturalId
     @Column(nullable = false, length = 50)
     private String username;
 
@@ -32,7 +41,20 @@ public class User {
     @Column(nullable = false, length = 20)
     private Role role;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
-    @Builder.Default
-    private Set<Attendance> attendances = new HashSet<>();
+    @Column
+    private LocalDate registeredOn;
+
+    // Identity equality: a transient user only equals itself, so hashing never touches lazy state.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof User other && id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return User.class.hashCode();
+    }
 }
@@ -1,6 +1,6 @@
 package com.ernoxin.atency.exception;
 
-public class BadRequestException extends RuntimeException {
+public class BadRequestException extends BusinessException {
     public BadRequestException(String message) {
         super(message);
     }
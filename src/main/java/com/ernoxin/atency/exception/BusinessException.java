@@ -0,0 +1,13 @@
+package com.ernoxin.atency.exception;
+
+/**
+ * Base of the rejections the API answers with a 4xx status: expected outcomes such as a second check-in,
+ * not faults. They are created without a stack trace, which is most of the cost of throwing, and cannot
+ * take a cause or suppressed exceptions, so a fixed-message instance can be created once and rethrown.
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    protected BusinessException(String message) {
+        super(message, null, false, false);
+    }
+}
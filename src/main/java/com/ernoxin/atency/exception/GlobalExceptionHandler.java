@@ -1,29 +1,42 @@
 package com.ernoxin.atency.exception;
 
+import com.ernoxin.atency.bulkhead.BulkheadContext;
 import com.ernoxin.atency.dto.ApiErrorResponse;
 import com.ernoxin.atency.logging.ReferenceIdUtil;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.JDBCConnectionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.sql.SQLTransientConnectionException;
 import java.util.HashMap;
 import java.util.Map;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ApiErrorResponse> handleNotFound(ResourceNotFoundException ex, HttpServletRequest request) {
         return buildResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request, null);
@@ -58,6 +71,29 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, "Validation failed", request, errors);
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex,
+                                                               HttpServletRequest request) {
+        return buildResponse(HttpStatus.BAD_REQUEST, "Invalid value for parameter '" + ex.getName() + "'",
+                request, null);
+    }
+
+    // A bulkhead pool without a free connection, or a statement past its query or pool timeout.
+    @ExceptionHandler({CannotCreateTransactionException.class, QueryTimeoutException.class,
+            jakarta.persistence.QueryTimeoutException.class})
+    public ResponseEntity<ApiErrorResponse> handleTimeout(RuntimeException ex, HttpServletRequest request) {
+        return serviceBusy(ex instanceof CannotCreateTransactionException ? "connection" : "statement", request);
+    }
+
+    // Connections are fetched at the first statement, so an exhausted pool surfaces from the statement too.
+    @ExceptionHandler({DataAccessResourceFailureException.class, JDBCConnectionException.class})
+    public ResponseEntity<ApiErrorResponse> handleConnectionFailure(RuntimeException ex, HttpServletRequest request) {
+        if (!isPoolTimeout(ex)) {
+            return handleGeneric(ex, request);
+        }
+        return serviceBusy("connection", request);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiErrorResponse> handleGeneric(Exception ex, HttpServletRequest request) {
         log.error("Unhandled exception referenceId={}", ReferenceIdUtil.resolveOrGenerate(), ex);
@@ -67,6 +103,28 @@ public class GlobalExceptionHandler {
                 null);
     }
 
+    private ResponseEntity<ApiErrorResponse> serviceBusy(String kind, HttpServletRequest request) {
+        String bulkhead = BulkheadContext.current().tag();
+        meterRegistry.counter("atency.bulkhead.timeouts", "bulkhead", bulkhead, "kind", kind).increment();
+        log.warn("Request timed out bulkhead={} kind={} path={} referenceId={}",
+                bulkhead, kind, request.getRequestURI(), ReferenceIdUtil.resolveOrGenerate());
+        ApiErrorResponse response = ApiErrorResponse.of(HttpStatus.SERVICE_UNAVAILABLE,
+                "The service is busy. Please retry later.", request.getRequestURI(), null);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    // Hikari reports a connection wait past its timeout as a transient connection exception.
+    private static boolean isPoolTimeout(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private ResponseEntity<ApiErrorResponse> buildResponse(HttpStatus status, String message,
                                                            HttpServletRequest request,
                                                            Map<String, String> validationErrors) {
@@ -0,0 +1,34 @@
+package com.ernoxin.atency.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("atency.AbsenceShard")
+@Label("Absence Job Shard")
+@Category({"Atency", "Jobs"})
+@Description("Marking one user-id shard absent for one day")
+@Setter
+public class AbsenceShardEvent extends AtencyEvent {
+
+    @Label("Date")
+    private String date;
+
+    @Label("From User Id")
+    private long fromUserId;
+
+    @Label("To User Id")
+    private long toUserId;
+
+    @Label("Rows")
+    @Description("Absence rows inserted")
+    private int rows;
+
+    public static AbsenceShardEvent start() {
+        AbsenceShardEvent event = new AbsenceShardEvent();
+        event.begin();
+        return event;
+    }
+}
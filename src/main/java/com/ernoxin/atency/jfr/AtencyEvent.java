@@ -0,0 +1,31 @@
+package com.ernoxin.atency.jfr;
+
+import com.ernoxin.atency.logging.ReferenceIdUtil;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base of the application's Flight Recorder events. Each event is started before the operation and
+ * finished after it, and carries the referenceId of the request it ran in, so a recording can be joined
+ * with the access log.
+ */
+@Category("Atency")
+@StackTrace(false)
+abstract class AtencyEvent extends Event {
+
+    @Label("Reference Id")
+    @Description("referenceId of the request; empty for scheduled jobs")
+    String referenceId;
+
+    // Cheap when the event is disabled: fields are only filled in for events the recording keeps.
+    public void finish() {
+        end();
+        if (shouldCommit()) {
+            referenceId = ReferenceIdUtil.current();
+            commit();
+        }
+    }
+}
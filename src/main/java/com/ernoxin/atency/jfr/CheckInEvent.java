@@ -0,0 +1,28 @@
+package com.ernoxin.atency.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("atency.CheckIn")
+@Label("Check-in")
+@Category({"Atency", "Attendance"})
+@Description("An employee checking in, including the user lookup and the write to the attendance log")
+@Setter
+public class CheckInEvent extends AtencyEvent {
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("Success")
+    @Description("False when the command was rejected, e.g. a second check-in on the same day")
+    private boolean success;
+
+    public static CheckInEvent start() {
+        CheckInEvent event = new CheckInEvent();
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,28 @@
+package com.ernoxin.atency.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("atency.CheckOut")
+@Label("Check-out")
+@Category({"Atency", "Attendance"})
+@Description("An employee checking out, including the user lookup and the write to the attendance log")
+@Setter
+public class CheckOutEvent extends AtencyEvent {
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("Success")
+    @Description("False when the command was rejected, e.g. a second check-out on the same day")
+    private boolean success;
+
+    public static CheckOutEvent start() {
+        CheckOutEvent event = new CheckOutEvent();
+        event.begin();
+        return event;
+    }
+}
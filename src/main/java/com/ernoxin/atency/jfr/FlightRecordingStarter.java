@@ -0,0 +1,79 @@
+package com.ernoxin.atency.jfr;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Starts a continuous Flight Recorder recording with {@code jfr/atency.jfc} over the JDK defaults, for
+ * deployments that cannot add {@code -XX:StartFlightRecording} to the command line. The recording is
+ * named {@code atency}, so it can be dumped with {@code jcmd <pid> JFR.dump name=atency}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true")
+public class FlightRecordingStarter {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecordingStarter.class);
+    static final String RECORDING_NAME = "atency";
+    static final String SETTINGS = "jfr/atency.jfc";
+
+    @Value("${app.jfr.max-age:1h}")
+    private Duration maxAge;
+
+    @Value("${app.jfr.max-size-mb:250}")
+    private long maxSizeMb;
+
+    @Value("${app.jfr.file:atency.jfr}")
+    private Path file;
+
+    private Recording recording;
+
+    @PostConstruct
+    void start() throws IOException, ParseException {
+        recording = new Recording(settings());
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSizeMb * 1024 * 1024);
+        recording.setDumpOnExit(true);
+        recording.setDestination(file);
+        recording.start();
+        log.info("Flight recording started name={} maxAge={} maxSizeMb={} file={}",
+                RECORDING_NAME, maxAge, maxSizeMb, file.toAbsolutePath());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recording != null) {
+            // Stopping writes the recording to its destination.
+            recording.stop();
+            recording.close();
+        }
+    }
+
+    static Map<String, String> settings() throws IOException, ParseException {
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        try (Reader reader = new InputStreamReader(new ClassPathResource(SETTINGS).getInputStream(),
+                StandardCharsets.UTF_8)) {
+            settings.putAll(Configuration.create(reader).getSettings());
+        }
+        return settings;
+    }
+}
@@ -0,0 +1,24 @@
+package com.ernoxin.atency.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("atency.JwtVerification")
+@Label("JWT Verification")
+@Category({"Atency", "Security"})
+@Description("Parsing a bearer token and checking its signature")
+@Setter
+public class JwtVerificationEvent extends AtencyEvent {
+
+    @Label("Valid")
+    private boolean valid;
+
+    public static JwtVerificationEvent start() {
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        return event;
+    }
+}
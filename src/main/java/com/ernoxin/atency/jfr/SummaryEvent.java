@@ -0,0 +1,33 @@
+package com.ernoxin.atency.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("atency.Summary")
+@Label("Attendance Summary")
+@Category({"Atency", "Attendance"})
+@Description("Computing one user's attendance totals")
+@Setter
+public class SummaryEvent extends AtencyEvent {
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("Absence Mode")
+    private String absenceMode;
+
+    @Label("Present Days")
+    private long presentDays;
+
+    @Label("Absent Days")
+    private long absentDays;
+
+    public static SummaryEvent start() {
+        SummaryEvent event = new SummaryEvent();
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,27 @@
+package com.ernoxin.atency.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("atency.UserLoad")
+@Label("User Load")
+@Category({"Atency", "Security"})
+@Description("Loading the user behind a token or login, from cache or database")
+@Setter
+public class UserLoadEvent extends AtencyEvent {
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("Found")
+    private boolean found;
+
+    public static UserLoadEvent start() {
+        UserLoadEvent event = new UserLoadEvent();
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,75 @@
+package com.ernoxin.atency.logging;
+
+import com.ernoxin.atency.bulkhead.Bulkhead;
+import com.ernoxin.atency.bulkhead.BulkheadContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Times every statement handed to the database: adds it to the request's totals for the access log,
+ * records it in {@code atency.db.statements} and logs it with the request's referenceId once it is slower
+ * than {@code app.db.slow-query-threshold}.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryMetricsListener implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryMetricsListener.class);
+    private static final int MAX_SQL_LENGTH = 2000;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.db.slow-query-threshold:500ms}")
+    private Duration slowQueryThreshold;
+
+    private final Map<Bulkhead, Timer> timers = new EnumMap<>(Bulkhead.class);
+
+    @PostConstruct
+    void init() {
+        for (Bulkhead bulkhead : Bulkhead.values()) {
+            timers.put(bulkhead, Timer.builder("atency.db.statements")
+                    .tag("bulkhead", bulkhead.tag())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMs = execInfo.getElapsedTime();
+        Bulkhead bulkhead = BulkheadContext.current();
+        RequestProfile.recordStatement(elapsedMs);
+        timers.get(bulkhead).record(elapsedMs, TimeUnit.MILLISECONDS);
+
+        if (elapsedMs >= slowQueryThreshold.toMillis()) {
+            String referenceId = ReferenceIdUtil.current();
+            log.warn("Slow query referenceId={} bulkhead={} elapsedMs={} success={} batchSize={} sql={}",
+                    referenceId != null ? referenceId : "-", bulkhead.tag(), elapsedMs, execInfo.isSuccess(),
+                    execInfo.isBatch() ? execInfo.getBatchSize() : 0, sql(queryInfoList));
+        }
+    }
+
+    private static String sql(List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).distinct().collect(Collectors.joining("; "));
+        return sql.length() > MAX_SQL_LENGTH ? sql.substring(0, MAX_SQL_LENGTH) + "..." : sql;
+    }
+}
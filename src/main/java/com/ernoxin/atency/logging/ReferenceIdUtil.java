@@ -12,6 +12,12 @@ public final class ReferenceIdUtil {
     private ReferenceIdUtil() {
     }
 
+    // The referenceId of the request on this thread, or null outside a request.
+    public static String current() {
+        String referenceId = MDC.get(MDC_KEY);
+        return referenceId == null || referenceId.isBlank() ? null : referenceId;
+    }
+
     public static String resolveOrGenerate() {
         String referenceId = MDC.get(MDC_KEY);
         if (referenceId == null || referenceId.isBlank()) {
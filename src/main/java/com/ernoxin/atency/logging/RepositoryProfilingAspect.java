@@ -0,0 +1,25 @@
+package com.ernoxin.atency.logging;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Books every Spring Data repository call to the {@link RequestProfile.Phase#REPOSITORY} phase. Rows of a
+ * returned {@code Stream} are fetched after the call returns and fall to the phase that consumes them.
+ */
+@Aspect
+@Component
+public class RepositoryProfilingAspect {
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object profile(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestProfile.enter(RequestProfile.Phase.REPOSITORY);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RequestProfile.exit();
+        }
+    }
+}
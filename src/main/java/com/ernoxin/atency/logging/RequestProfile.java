@@ -0,0 +1,150 @@
+package com.ernoxin.atency.logging;
+
+import java.util.Arrays;
+
+/**
+ * Where the request on the current thread spends its time. Code brackets its work with
+ * {@link #enter(Phase)} and {@link #exit()}; a phase entered inside another pauses the outer one, so the
+ * phases never overlap, except that the JWT and user lookup phases keep everything they call (such as the
+ * user query). SQL statements are counted separately, and their time is also part of whichever phase ran
+ * them. Outside a request (jobs, startup) every call is a no-op.
+ */
+public final class RequestProfile {
+
+    public enum Phase {
+        JWT("jwt", true),
+        USER_LOOKUP("user", true),
+        REPOSITORY("repo", false),
+        MAPPING("map", false),
+        SERIALIZATION("ser", false);
+
+        private final String key;
+        private final boolean inclusive;
+
+        Phase(String key, boolean inclusive) {
+            this.key = key;
+            this.inclusive = inclusive;
+        }
+    }
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long startedAt = System.nanoTime();
+    private final long[] nanos = new long[PHASES.length];
+    private Phase[] stack = new Phase[4];
+    private int depth;
+    private long phaseStartedAt;
+    private int statements;
+    private long statementMs;
+
+    private RequestProfile() {
+    }
+
+    static void begin() {
+        CURRENT.set(new RequestProfile());
+    }
+
+    // Closes phases still open, such as serialization that runs until the response is complete.
+    static RequestProfile end() {
+        RequestProfile profile = CURRENT.get();
+        CURRENT.remove();
+        if (profile == null) {
+            return new RequestProfile();
+        }
+        long now = System.nanoTime();
+        while (profile.depth > 0) {
+            profile.pop(now);
+        }
+        return profile;
+    }
+
+    public static void enter(Phase phase) {
+        RequestProfile profile = CURRENT.get();
+        if (profile != null) {
+            profile.push(phase, System.nanoTime());
+        }
+    }
+
+    public static void exit() {
+        RequestProfile profile = CURRENT.get();
+        if (profile != null) {
+            profile.pop(System.nanoTime());
+        }
+    }
+
+    static void recordStatement(long elapsedMs) {
+        RequestProfile profile = CURRENT.get();
+        if (profile != null) {
+            profile.statements++;
+            profile.statementMs += elapsedMs;
+        }
+    }
+
+    /**
+     * The profile so far as a {@code Server-Timing} header value, or {@code null} outside a request. It is
+     * taken when the response body starts, so serialization is not part of it.
+     */
+    public static String serverTiming() {
+        RequestProfile profile = CURRENT.get();
+        if (profile == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        StringBuilder header = new StringBuilder();
+        for (Phase phase : PHASES) {
+            long phaseNanos = profile.nanos(phase, now);
+            if (phaseNanos > 0) {
+                header.append(phase.key).append(";dur=").append(millis(phaseNanos)).append(", ");
+            }
+        }
+        header.append("db;dur=").append(profile.statementMs)
+                .append(";desc=\"statements=").append(profile.statements).append("\", ")
+                .append("app;dur=").append(millis(now - profile.startedAt));
+        return header.toString();
+    }
+
+    // Phase durations and statement totals as key=value pairs for the access log.
+    String toLogFields() {
+        StringBuilder fields = new StringBuilder();
+        for (Phase phase : PHASES) {
+            fields.append(phase.key).append("Ms=").append(millis(nanos[phase.ordinal()])).append(' ');
+        }
+        return fields.append("statements=").append(statements).append(" dbMs=").append(statementMs).toString();
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    private long nanos(Phase phase, long now) {
+        long total = nanos[phase.ordinal()];
+        return depth > 0 && stack[depth - 1] == phase ? total + now - phaseStartedAt : total;
+    }
+
+    private void push(Phase phase, long now) {
+        Phase outer = depth > 0 ? stack[depth - 1] : null;
+        if (outer != null) {
+            nanos[outer.ordinal()] += now - phaseStartedAt;
+        }
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = outer != null && outer.inclusive ? outer : phase;
+        phaseStartedAt = now;
+    }
+
+    private void pop(long now) {
+        if (depth == 0) {
+            return;
+        }
+        nanos[stack[--depth].ordinal()] += now - phaseStartedAt;
+        phaseStartedAt = now;
+    }
+
+    // Milliseconds with one decimal, e.g. "12.3".
+    private static String millis(long nanos) {
+        long tenths = (nanos + 50_000) / 100_000;
+        return tenths / 10 + "." + tenths % 10;
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -20,6 +21,7 @@ import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
+@RequiredArgsConstructor
 public class RequestTraceLoggingFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(RequestTraceLoggingFilter.class);
@@ -40,6 +42,8 @@ public class RequestTraceLoggingFilter extends OncePerRequestFilter {
             "api-key"
     );
 
+    private final StartupTimer startupTimer;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
@@ -49,6 +53,7 @@ public class RequestTraceLoggingFilter extends OncePerRequestFilter {
 
         Instant startTime = Instant.now();
         long startNs = System.nanoTime();
+        RequestProfile.begin();
         boolean failed = false;
         try {
             filterChain.doFilter(request, response);
@@ -61,10 +66,12 @@ public class RequestTraceLoggingFilter extends OncePerRequestFilter {
                 status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
             }
             long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNs);
+            RequestProfile profile = RequestProfile.end();
             String username = resolveUsername();
             String params = formatParameters(request.getParameterMap());
             logByStatus(status, referenceId, request.getMethod(), request.getRequestURI(),
-                    params, username, startTime, durationMs);
+                    params, username, startTime, durationMs, profile);
+            startupTimer.requestCompleted(request.getRequestURI(), durationMs);
             MDC.clear();
         }
     }
@@ -131,16 +138,20 @@ public class RequestTraceLoggingFilter extends OncePerRequestFilter {
     }
 
     private void logByStatus(int status, String referenceId, String method, String uri,
-                             String params, String username, Instant startTime, long durationMs) {
+                             String params, String username, Instant startTime, long durationMs,
+                             RequestProfile profile) {
         if (status >= 500) {
-            log.error("Request completed referenceId={} method={} uri={} params={} user={} startTime={} status={} durationMs={}",
-                    referenceId, method, uri, params, username, startTime, status, durationMs);
+            log.error("Request completed referenceId={} method={} uri={} params={} user={} startTime={} status={} durationMs={} {}",
+                    referenceId, method, uri, params, username, startTime, status, durationMs,
+                    profile.toLogFields());
         } else if (status >= 400) {
-            log.warn("Request completed referenceId={} method={} uri={} params={} user={} startTime={} status={} durationMs={}",
-                    referenceId, method, uri, params, username, startTime, status, durationMs);
+            log.warn("Request completed referenceId={} method={} uri={} params={} user={} startTime={} status={} durationMs={} {}",
+                    referenceId, method, uri, params, username, startTime, status, durationMs,
+                    profile.toLogFields());
         } else {
-            log.info("Request completed referenceId={} method={} uri={} params={} user={} startTime={} status={} durationMs={}",
-                    referenceId, method, uri, params, username, startTime, status, durationMs);
+            log.info("Request completed referenceId={} method={} uri={} params={} user={} startTime={} status={} durationMs={} {}",
+                    referenceId, method, uri, params, username, startTime, status, durationMs,
+                    profile.toLogFields());
         }
     }
 }
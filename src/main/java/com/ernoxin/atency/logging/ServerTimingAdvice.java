@@ -0,0 +1,52 @@
+package com.ernoxin.atency.logging;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Starts the serialization phase of the request profile as a response body is handed to its converter,
+ * and with {@code app.profiling.server-timing} reports the profile so far in a {@code Server-Timing} header.
+ */
+@RestControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER_NAME = "Server-Timing";
+
+    @Value("${app.profiling.server-timing:false}")
+    private boolean enabled;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public @Nullable Object beforeBodyWrite(@Nullable Object body, MethodParameter returnType,
+                                            MediaType selectedContentType,
+                                            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                            ServerHttpRequest request, ServerHttpResponse response) {
+        String serverTiming = enabled ? RequestProfile.serverTiming() : null;
+        if (serverTiming != null) {
+            response.getHeaders().set(HEADER_NAME, serverTiming);
+        }
+        // Closed by the trace filter once the response is complete.
+        RequestProfile.enter(RequestProfile.Phase.SERIALIZATION);
+        return body;
+    }
+
+    // For responses written directly to the servlet response, before anything is committed.
+    public void writeHeader(HttpServletResponse response) {
+        String serverTiming = enabled ? RequestProfile.serverTiming() : null;
+        if (serverTiming != null) {
+            response.setHeader(HEADER_NAME, serverTiming);
+        }
+    }
+}
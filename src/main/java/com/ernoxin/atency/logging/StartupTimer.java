@@ -0,0 +1,50 @@
+package com.ernoxin.atency.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NativeDetector;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Logs how long the instance took to become ready and how long its first API call took, together with the
+ * startup mode (plain JVM, AOT-processed, native image) and whether a CDS archive was used, so the build
+ * profiles can be compared from the logs of real deployments.
+ */
+@Component
+public class StartupTimer {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimer.class);
+
+    private final AtomicBoolean firstRequestSeen = new AtomicBoolean();
+
+    @EventListener
+    void onReady(ApplicationReadyEvent event) {
+        log.info("Startup completed mode={} cds={} contextMs={} jvmUptimeMs={}",
+                mode(), cds(), event.getTimeTaken().toMillis(), ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    void requestCompleted(String uri, long durationMs) {
+        if (uri.startsWith("/api/") && firstRequestSeen.compareAndSet(false, true)) {
+            log.info("First request completed uri={} durationMs={} jvmUptimeMs={}",
+                    uri, durationMs, ManagementFactory.getRuntimeMXBean().getUptime());
+        }
+    }
+
+    static String mode() {
+        if (NativeDetector.inNativeImage()) {
+            return "native";
+        }
+        return AotDetector.useGeneratedArtifacts() ? "aot" : "jvm";
+    }
+
+    private static boolean cds() {
+        return ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile="));
+    }
+}
@@ -0,0 +1,16 @@
+package com.ernoxin.atency.outbox;
+
+import com.ernoxin.atency.dto.AttendanceChangeDto;
+
+import java.util.List;
+
+/**
+ * Receives attendance changes from the outbox relay, one batch at a time and in position order. A batch
+ * counts as published only when this returns; throwing makes the relay retry the same batch later, so
+ * delivery is at least once. Positions are committed before the first attempt and a retry carries the
+ * same ones, so consumers can skip positions they have already seen.
+ */
+public interface ChangeEventSink {
+
+    void publish(List<AttendanceChangeDto> changes);
+}
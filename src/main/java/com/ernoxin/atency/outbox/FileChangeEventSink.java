@@ -0,0 +1,45 @@
+package com.ernoxin.atency.outbox;
+
+import com.ernoxin.atency.dto.AttendanceChangeDto;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends each change as one JSON line to a local file. Meant for tests and local integration work.
+ */
+public class FileChangeEventSink implements ChangeEventSink {
+
+    private final Path path;
+    private final JsonMapper jsonMapper;
+
+    public FileChangeEventSink(Path path, JsonMapper jsonMapper) {
+        this.path = path;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<AttendanceChangeDto> changes) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (AttendanceChangeDto change : changes) {
+                    writer.write(jsonMapper.writeValueAsString(change));
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Writing changes to " + path + " failed", ex);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ernoxin.atency.outbox;
+
+import com.ernoxin.atency.dto.AttendanceChangeDto;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Posts each batch as {@code {"changes": [...]}} to an HTTP endpoint. Any response other than 2xx fails the
+ * batch, so the receiver acknowledges by answering success only after it has stored the changes.
+ */
+public class WebhookChangeEventSink implements ChangeEventSink {
+
+    private final URI url;
+    private final Duration timeout;
+    private final JsonMapper jsonMapper;
+    private final HttpClient httpClient;
+
+    public WebhookChangeEventSink(URI url, Duration timeout, JsonMapper jsonMapper) {
+        this.url = url;
+        this.timeout = timeout;
+        this.jsonMapper = jsonMapper;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public void publish(List<AttendanceChangeDto> changes) {
+        HttpRequest request = HttpRequest.newBuilder(url)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(jsonMapper.writeValueAsBytes(Map.of("changes", changes))))
+                .build();
+        HttpResponse<Void> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException ex) {
+            throw new IllegalStateException("Webhook " + url + " is unreachable", ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calling webhook " + url, ex);
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Webhook " + url + " rejected changes status=" + response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.ernoxin.atency.reactive;
+
+import com.ernoxin.atency.bulkhead.Bulkhead;
+import com.ernoxin.atency.bulkhead.BulkheadFilter;
+import com.ernoxin.atency.dto.ApiErrorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load shedding for the reactive read port. Netty accepts any number of concurrent requests and the R2DBC pool
+ * queues without bound, so requests beyond {@code app.reactive.max-in-flight} are turned away at once. Admin
+ * reads take a reporting slot from the servlet {@link BulkheadFilter} without waiting and are shed under the
+ * same conditions as on the main port. Decisions are counted in {@code atency.bulkhead.requests}.
+ */
+@RequiredArgsConstructor
+public class ReactiveAdmissionFilter implements WebFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveAdmissionFilter.class);
+
+    private static final String ADMIN_PREFIX = "/api/admin/";
+    private static final String METRIC = "atency.bulkhead.requests";
+
+    private final BulkheadFilter bulkheadFilter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int maxInFlight;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // The counters are released once the response is written, which for a streamed admin list is the last row.
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        Bulkhead bulkhead = HttpMethod.GET.equals(request.getMethod())
+                && request.getPath().value().startsWith(ADMIN_PREFIX)
+                ? Bulkhead.REPORTING
+                : Bulkhead.STANDARD;
+
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            meterRegistry.counter(METRIC, "bulkhead", bulkhead.tag(), "outcome", "shed", "reason", "reactive_in_flight")
+                    .increment();
+            return reject(exchange, bulkhead, "reactive_in_flight");
+        }
+        if (bulkhead == Bulkhead.REPORTING) {
+            String reason = bulkheadFilter.tryAdmitReporting();
+            if (reason != null) {
+                inFlight.decrementAndGet();
+                return reject(exchange, bulkhead, reason);
+            }
+        } else {
+            meterRegistry.counter(METRIC, "bulkhead", bulkhead.tag(), "outcome", "admitted", "reason", "none")
+                    .increment();
+        }
+
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    inFlight.decrementAndGet();
+                    if (bulkhead == Bulkhead.REPORTING) {
+                        bulkheadFilter.releaseReporting();
+                    }
+                });
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, Bulkhead bulkhead, String reason) {
+        ServerHttpRequest request = exchange.getRequest();
+        log.debug("Request rejected port=reactive bulkhead={} reason={} method={} path={} inFlight={}",
+                bulkhead.tag(), reason, request.getMethod(), request.getPath().value(), inFlight.get());
+        ApiErrorResponse body = ApiErrorResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "The service is busy. Please retry later.",
+                request.getPath().value(),
+                null);
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, bulkhead == Bulkhead.REPORTING ? "10" : "1");
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.fromSupplier(
+                () -> response.bufferFactory().wrap(objectMapper.writeValueAsBytes(body))));
+    }
+}
@@ -0,0 +1,196 @@
+package com.ernoxin.atency.reactive;
+
+import com.ernoxin.atency.dto.AttendancePageDto;
+import com.ernoxin.atency.dto.AttendanceRecordDto;
+import com.ernoxin.atency.dto.AttendanceSummaryDto;
+import com.ernoxin.atency.entity.AttendanceStatus;
+import com.ernoxin.atency.entity.Role;
+import com.ernoxin.atency.entity.User;
+import com.ernoxin.atency.service.AbsenceMode;
+import com.ernoxin.atency.service.CalendarService;
+import com.ernoxin.atency.util.WorkedTimeFormatter;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * R2DBC counterpart of the read side of {@code AttendanceServiceImpl}. Produces the same DTOs without
+ * holding a thread or a JDBC connection while the database works.
+ */
+public class ReactiveAttendanceReader {
+
+    private static final int FEED_FETCH_SIZE = 500;
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    private final CalendarService calendarService;
+    private final AbsenceMode absenceMode;
+
+    public ReactiveAttendanceReader(ConnectionPool connectionPool, CalendarService calendarService,
+                                    AbsenceMode absenceMode) {
+        this.connectionPool = connectionPool;
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.calendarService = calendarService;
+        this.absenceMode = absenceMode;
+    }
+
+    public void dispose() {
+        connectionPool.dispose();
+    }
+
+    public Mono<User> findUser(String username) {
+        return databaseClient.sql("""
+                        select id, username, password, full_name, role, registered_on
+                        from users where username = :username
+                        """)
+                .bind("username", username)
+                .map(row -> User.builder()
+                        .id(row.get("id", Long.class))
+                        .username(row.get("username", String.class))
+                        .password(row.get("password", String.class))
+                        .fullName(row.get("full_name", String.class))
+                        .role(Role.valueOf(row.get("role", String.class)))
+                        .registeredOn(row.get("registered_on", LocalDate.class))
+                        .build())
+                .one();
+    }
+
+    public Mono<List<AttendanceRecordDto>> getAllRecords(long userId) {
+        return databaseClient.sql("""
+                        select id, date, check_in_time, check_out_time, worked_seconds, status
+                        from attendance where user_id = :userId
+                        order by date desc
+                        """)
+                .bind("userId", userId)
+                .map(row -> toDto(row, false))
+                .all()
+                .collectList();
+    }
+
+    // Same window as the servlet path: one extra row tells whether another page exists.
+    public Mono<AttendancePageDto> getRecords(long userId, LocalDate from, LocalDate upper, int limit) {
+        String sql = from == null
+                ? "where user_id = :userId and date <= :upper"
+                : "where user_id = :userId and date between :from and :upper";
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                        select id, date, check_in_time, check_out_time, worked_seconds, status
+                        from attendance %s
+                        order by date desc
+                        limit :limit
+                        """.formatted(sql))
+                .bind("userId", userId)
+                .bind("upper", upper)
+                .bind("limit", limit + 1);
+        if (from != null) {
+            spec = spec.bind("from", from);
+        }
+
+        return spec.map(row -> toDto(row, false))
+                .all()
+                .collectList()
+                .map(rows -> {
+                    boolean hasMore = rows.size() > limit;
+                    List<AttendanceRecordDto> records = hasMore ? rows.subList(0, limit) : rows;
+                    return AttendancePageDto.builder()
+                            .records(records)
+                            .nextCursor(hasMore ? records.getLast().getDate() : null)
+                            .build();
+                });
+    }
+
+    public Mono<AttendanceSummaryDto> getSummary(User user) {
+        Mono<long[]> totals = databaseClient.sql("""
+                        select present_days, absent_days, worked_seconds
+                        from attendance_summary where user_id = :userId
+                        """)
+                .bind("userId", user.getId())
+                .map(row -> new long[]{
+                        row.get("present_days", Long.class),
+                        row.get("absent_days", Long.class),
+                        row.get("worked_seconds", Long.class)})
+                .one()
+                .defaultIfEmpty(new long[3]);
+        if (absenceMode != AbsenceMode.DERIVED) {
+            return totals.map(t -> toSummary(t, t[1]));
+        }
+        return Mono.zip(totals, derivedAbsentDays(user), this::toSummary);
+    }
+
+    // Rows stream with the client's demand: the driver fetches the next portal only when Netty has written the last.
+    public Flux<AttendanceRecordDto> streamAll() {
+        return databaseClient.sql("""
+                        select a.id, a.date, a.check_in_time, a.check_out_time, a.worked_seconds, a.status,
+                               u.id as user_id, u.username, u.full_name
+                        from attendance a join users u on u.id = a.user_id
+                        order by a.date desc
+                        """)
+                .filter(statement -> statement.fetchSize(FEED_FETCH_SIZE))
+                .map(row -> toDto(row, true))
+                .all();
+    }
+
+    // Totals are {presentDays, absentDays, workedSeconds} as stored in the summary projection.
+    private AttendanceSummaryDto toSummary(long[] totals, long absentDays) {
+        return AttendanceSummaryDto.builder()
+                .totalWorkedHours(WorkedTimeFormatter.format(totals[2]))
+                .presentDays(totals[0])
+                .absentDays(absentDays)
+                .build();
+    }
+
+    private Mono<Long> derivedAbsentDays(User user) {
+        LocalDate to = LocalDate.now().minusDays(1);
+        Mono<LocalDate> start = user.getRegisteredOn() != null
+                ? Mono.just(user.getRegisteredOn())
+                : databaseClient.sql("select min(date) as first from attendance where user_id = :userId")
+                .bind("userId", user.getId())
+                .map(row -> row.get("first", LocalDate.class))
+                .one();
+
+        return start.filter(from -> !from.isAfter(to))
+                .flatMap(from -> databaseClient.sql("""
+                                select date from attendance
+                                where user_id = :userId and status = :status and date between :from and :to
+                                """)
+                        .bind("userId", user.getId())
+                        .bind("status", AttendanceStatus.PRESENT.name())
+                        .bind("from", from)
+                        .bind("to", to)
+                        .map(row -> row.get("date", LocalDate.class))
+                        .all()
+                        .collectList()
+                        // The calendar may load a year of overrides through JPA on a cache miss.
+                        .publishOn(Schedulers.boundedElastic())
+                        .map(dates -> {
+                            long presentWorkingDays = dates.stream().filter(calendarService::isWorkingDay).count();
+                            return Math.max(calendarService.countWorkingDays(from, to) - presentWorkingDays, 0);
+                        }))
+                .defaultIfEmpty(0L);
+    }
+
+    private static AttendanceRecordDto toDto(Readable row, boolean includeUser) {
+        AttendanceRecordDto.AttendanceRecordDtoBuilder builder = AttendanceRecordDto.builder()
+                .id(row.get("id", Long.class))
+                .date(row.get("date", LocalDate.class))
+                .checkInTime(row.get("check_in_time", LocalTime.class))
+                .checkOutTime(row.get("check_out_time", LocalTime.class))
+                .workedHours(WorkedTimeFormatter.format(row.get("worked_seconds", Long.class)))
+                .status(AttendanceStatus.valueOf(row.get("status", String.class)));
+
+        if (includeUser) {
+            builder
+                    .userId(row.get("user_id", Long.class))
+                    .username(row.get("username", String.class))
+                    .fullName(row.get("full_name", String.class));
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,237 @@
+package com.ernoxin.atency.reactive;
+
+import com.ernoxin.atency.dto.ApiErrorResponse;
+import com.ernoxin.atency.dto.AttendanceRecordDto;
+import com.ernoxin.atency.dto.BaseResponse;
+import com.ernoxin.atency.entity.Role;
+import com.ernoxin.atency.entity.User;
+import com.ernoxin.atency.exception.BadRequestException;
+import com.ernoxin.atency.logging.ReferenceIdUtil;
+import com.ernoxin.atency.security.JwtService;
+import com.ernoxin.atency.security.RateLimitFilter;
+import com.ernoxin.atency.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Functional routes for the dashboard reads served from the reactive port. Paths, parameters and the
+ * {@code BaseResponse} envelope mirror the servlet controllers so clients only switch the base URL.
+ */
+@RequiredArgsConstructor
+public class ReactiveReadHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveReadHandler.class);
+
+    private static final int MAX_PAGE_SIZE = 366;
+    private static final List<String> PAGE_PARAMS = List.of("from", "to", "cursor", "limit");
+    private static final String USER_ATTRIBUTE = User.class.getName();
+    private static final String REFERENCE_ID_ATTRIBUTE = ReferenceIdUtil.MDC_KEY;
+
+    private final ReactiveAttendanceReader reader;
+    private final JwtService jwtService;
+    private final RateLimitFilter rateLimitFilter;
+    private final ObjectMapper objectMapper;
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET("/api/attendance/my-records", this::myRecords)
+                .GET("/api/attendance/my-summary", this::mySummary)
+                .GET("/api/admin/attendance/all", this::all)
+                .filter(this::authenticate)
+                .onError(BadRequestException.class,
+                        (ex, request) -> error(request, HttpStatus.BAD_REQUEST, ex.getMessage()))
+                .onError(ex -> !(ex instanceof BadRequestException),
+                        (ex, request) -> {
+                            log.error("Unhandled exception referenceId={}", referenceId(request), ex);
+                            return error(request, HttpStatus.INTERNAL_SERVER_ERROR,
+                                    "An unexpected error occurred. Please contact support with the referenceId.");
+                        })
+                .build();
+    }
+
+    // Deferred so that parameter validation errors travel as signals to the onError handlers.
+    private Mono<ServerResponse> myRecords(ServerRequest request) {
+        if (PAGE_PARAMS.stream().noneMatch(name -> request.queryParam(name).isPresent())) {
+            return reader.getAllRecords(user(request).getId())
+                    .flatMap(records -> ok(request, records));
+        }
+        return Mono.defer(() -> {
+            LocalDate from = dateParam(request, "from");
+            LocalDate to = dateParam(request, "to");
+            LocalDate cursor = dateParam(request, "cursor");
+            int limit = intParam(request, "limit", 31);
+            if (limit < 1 || limit > MAX_PAGE_SIZE) {
+                throw new BadRequestException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+            }
+            if (from != null && to != null && from.isAfter(to)) {
+                throw new BadRequestException("From date must not be after to date");
+            }
+
+            LocalDate upper = to == null ? LocalDate.now() : to;
+            if (cursor != null && !cursor.isAfter(upper)) {
+                upper = cursor.minusDays(1);
+            }
+
+            return reader.getRecords(user(request).getId(), from, upper, limit)
+                    .flatMap(page -> ok(request, page));
+        });
+    }
+
+    private Mono<ServerResponse> mySummary(ServerRequest request) {
+        return reader.getSummary(user(request))
+                .flatMap(summary -> ok(request, summary));
+    }
+
+    // Same envelope as BaseResponseStreamWriter, but each row is only encoded once Netty asks for more.
+    private Mono<ServerResponse> all(ServerRequest request) {
+        if (user(request).getRole() != Role.ADMIN) {
+            return error(request, HttpStatus.FORBIDDEN, "You do not have permission to perform this action.");
+        }
+
+        DataBufferFactory buffers = request.exchange().getResponse().bufferFactory();
+        HttpStatus status = HttpStatus.OK;
+        String head = "{\"code\":" + status.value()
+                + ",\"referenceId\":" + objectMapper.writeValueAsString(referenceId(request))
+                + ",\"result\":[";
+        String tail = "],\"status\":" + objectMapper.writeValueAsString(status.getReasonPhrase())
+                + ",\"timestamp\":" + objectMapper.writeValueAsString(Instant.now()) + "}";
+
+        Flux<DataBuffer> rows = reader.streamAll()
+                .index()
+                .map(row -> encode(buffers, row.getT1() == 0 ? "" : ",", row.getT2()));
+        Flux<DataBuffer> body = Flux.concat(
+                Mono.fromSupplier(() -> buffers.wrap(head.getBytes(StandardCharsets.UTF_8))),
+                rows,
+                Mono.fromSupplier(() -> buffers.wrap(tail.getBytes(StandardCharsets.UTF_8))));
+
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromDataBuffers(body));
+    }
+
+    // Validates the bearer token with the same JwtService as the servlet chain, against the user as stored now.
+    // Calls are charged to the same per-user bucket as on the main port, and unauthenticated ones to the address.
+    private Mono<ServerResponse> authenticate(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        String referenceId = request.headers().firstHeader(ReferenceIdUtil.HEADER_NAME);
+        if (referenceId == null || referenceId.isBlank()) {
+            referenceId = UUID.randomUUID().toString();
+        }
+        request.attributes().put(REFERENCE_ID_ATTRIBUTE, referenceId);
+        request.exchange().getResponse().getHeaders().set(ReferenceIdUtil.HEADER_NAME, referenceId);
+
+        String authHeader = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return unauthorized(request);
+        }
+
+        String token = authHeader.substring(7);
+        String username;
+        try {
+            username = jwtService.extractUsername(token);
+        } catch (Exception ex) {
+            return unauthorized(request);
+        }
+
+        return reader.findUser(username)
+                .filter(user -> jwtService.isTokenValid(token, UserPrincipal.fromUser(user)))
+                .flatMap(user -> {
+                    long waitNanos = rateLimitFilter.tryAcquireApi(RateLimitFilter.userKey(user.getUsername()));
+                    if (waitNanos > 0) {
+                        return tooManyRequests(request, waitNanos);
+                    }
+                    request.attributes().put(USER_ATTRIBUTE, user);
+                    return next.handle(request);
+                })
+                .switchIfEmpty(Mono.defer(() -> unauthorized(request)));
+    }
+
+    private Mono<ServerResponse> unauthorized(ServerRequest request) {
+        String address = request.remoteAddress()
+                .map(socket -> socket.getAddress().getHostAddress())
+                .orElse("unknown");
+        long waitNanos = rateLimitFilter.tryAcquireApi(RateLimitFilter.addressKey(address));
+        if (waitNanos > 0) {
+            return tooManyRequests(request, waitNanos);
+        }
+        return error(request, HttpStatus.UNAUTHORIZED, "Authentication required.");
+    }
+
+    private Mono<ServerResponse> tooManyRequests(ServerRequest request, long waitNanos) {
+        ApiErrorResponse body = ApiErrorResponse.of(HttpStatus.TOO_MANY_REQUESTS,
+                "Too many requests. Please retry later.", request.path(), null, referenceId(request));
+        return ServerResponse.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(RateLimitFilter.retryAfterSeconds(waitNanos)))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body);
+    }
+
+    private Mono<ServerResponse> ok(ServerRequest request, Object result) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(BaseResponse.of(HttpStatus.OK, result, referenceId(request)));
+    }
+
+    private Mono<ServerResponse> error(ServerRequest request, HttpStatus status, String message) {
+        ApiErrorResponse body = ApiErrorResponse.of(status, message, request.path(), null, referenceId(request));
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body);
+    }
+
+    private DataBuffer encode(DataBufferFactory buffers, String separator, AttendanceRecordDto record) {
+        byte[] json = objectMapper.writeValueAsBytes(record);
+        DataBuffer buffer = buffers.allocateBuffer(separator.length() + json.length);
+        buffer.write(separator.getBytes(StandardCharsets.UTF_8));
+        buffer.write(json);
+        return buffer;
+    }
+
+    private static User user(ServerRequest request) {
+        return (User) request.attributes().get(USER_ATTRIBUTE);
+    }
+
+    private static String referenceId(ServerRequest request) {
+        return (String) request.attributes().get(REFERENCE_ID_ATTRIBUTE);
+    }
+
+    private static LocalDate dateParam(ServerRequest request, String name) {
+        Optional<String> value = request.queryParam(name).filter(text -> !text.isBlank());
+        try {
+            return value.map(LocalDate::parse).orElse(null);
+        } catch (DateTimeParseException ex) {
+            throw new BadRequestException("Invalid value for parameter '" + name + "'");
+        }
+    }
+
+    private static int intParam(ServerRequest request, String name, int defaultValue) {
+        Optional<String> value = request.queryParam(name).filter(text -> !text.isBlank());
+        try {
+            return value.map(Integer::parseInt).orElse(defaultValue);
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException("Invalid value for parameter '" + name + "'");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ernoxin.atency.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Runs the reactive read routes on their own Netty port next to the servlet container, so the event
+ * loop never shares threads with blocking request handling.
+ */
+@RequiredArgsConstructor
+public class ReactiveReadServer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveReadServer.class);
+
+    private final HttpHandler httpHandler;
+    private final int port;
+
+    private volatile DisposableServer server;
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                .port(port)
+                .compress(true)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Reactive read server started port={}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+    }
+
+    public int getPort() {
+        return server != null ? server.port() : -1;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.ernoxin.atency.repository;
+
+import com.ernoxin.atency.entity.AbsenceJobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+public interface AbsenceJobCheckpointRepository extends JpaRepository<AbsenceJobCheckpoint, Long> {
+
+    @Query("select c.shardStart from AbsenceJobCheckpoint c where c.date = :date")
+    Set<Long> findShardStartsByDate(@Param("date") LocalDate date);
+
+    boolean existsByDateLessThan(LocalDate date);
+}
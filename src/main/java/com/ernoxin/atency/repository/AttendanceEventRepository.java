@@ -0,0 +1,17 @@
+package com.ernoxin.atency.repository;
+
+import com.ernoxin.atency.entity.AttendanceEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface AttendanceEventRepository extends JpaRepository<AttendanceEvent, Long> {
+
+    List<AttendanceEvent> findAllByUserIdOrderByVersionDesc(Long userId);
+
+    List<AttendanceEvent> findAllByUserIdAndVersionGreaterThanOrderByVersion(Long userId, long version);
+
+    List<AttendanceEvent> findAllByUserIdAndDateInOrderByVersion(Long userId, Collection<LocalDate> dates);
+}
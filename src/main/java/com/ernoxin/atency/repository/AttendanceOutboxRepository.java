@@ -0,0 +1,45 @@
+package com.ernoxin.atency.repository;
+
+import com.ernoxin.atency.entity.AttendanceOutboxMessage;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface AttendanceOutboxRepository extends JpaRepository<AttendanceOutboxMessage, Long> {
+
+    // Held until the relay's transaction ends, so positions become visible in the order they were assigned.
+    @Query(value = "select pg_try_advisory_xact_lock(hashtext('attendance_outbox_relay'))", nativeQuery = true)
+    boolean tryLockRelay();
+
+    List<AttendanceOutboxMessage> findAllByPositionIsNotNullAndPublishedAtIsNullOrderByPosition(Limit limit);
+
+    // Commits on its own, so a position once given out stays with its message even if publishing then fails.
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "update attendance_outbox o set position = n.position "
+            + "from (select b.id, m.max_position + row_number() over (order by b.id) as position "
+            + "from (select id from attendance_outbox where position is null order by id limit :limit) b, "
+            + "(select coalesce(max(position), 0) as max_position from attendance_outbox) m) n "
+            + "where o.id = n.id",
+            nativeQuery = true)
+    int assignPositions(@Param("limit") int limit);
+
+    List<AttendanceOutboxMessage> findAllByPositionGreaterThanOrderByPosition(long position, Limit limit);
+
+    @Query("select coalesce(max(m.position), 0) from AttendanceOutboxMessage m")
+    long findMaxPosition();
+
+    @Query("select min(m.position) from AttendanceOutboxMessage m")
+    Long findMinPosition();
+
+    @Modifying
+    @Query("delete from AttendanceOutboxMessage m where m.publishedAt < :before")
+    int deleteAllByPublishedAtBefore(@Param("before") Instant before);
+}
@@ -1,21 +1,82 @@
 package com.ernoxin.atency.repository;
 
 import com.ernoxin.atency.entity.Attendance;
+import com.ernoxin.atency.entity.AttendanceStatus;
 import com.ernoxin.atency.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
-public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
+public interface AttendanceRepository extends JpaRepository<Attendance, Long>, AttendanceSearchRepository {
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.LOOKUP))
     Optional<Attendance> findByUserAndDate(User user, LocalDate date);
 
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.LOOKUP))
     boolean existsByUserAndDate(User user, LocalDate date);
 
-    List<Attendance> findAllByUserOrderByDateDesc(User user);
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.LOOKUP))
+    boolean existsByUserAndDateAndCheckInTimeIsNotNull(User user, LocalDate date);
 
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.LOOKUP))
+    boolean existsByUserAndDateAndCheckOutTimeIsNotNull(User user, LocalDate date);
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.LIST))
+    List<Attendance> findAllByUserAndDateLessThanEqualOrderByDateDesc(User user, LocalDate to, Limit limit);
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.LIST))
+    List<Attendance> findAllByUserAndDateBetweenOrderByDateDesc(User user, LocalDate from, LocalDate to, Limit limit);
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.LIST))
     List<Attendance> findAllByUserIdOrderByDateDesc(Long userId);
 
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.LIST))
+    List<Attendance> findAllByUserIdAndDateIn(Long userId, Collection<LocalDate> dates);
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.REPORT))
+    @EntityGraph(attributePaths = "user")
+    List<Attendance> findAllByDateAndCheckInTimeIsNotNullAndCheckOutTimeIsNullOrderByCheckInTime(LocalDate date);
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.LIST))
+    @Query("select a.date from Attendance a "
+            + "where a.user = :user and a.status = :status and a.date between :from and :to")
+    List<LocalDate> findDatesByUserAndStatusAndDateBetween(@Param("user") User user,
+                                                           @Param("status") AttendanceStatus status,
+                                                           @Param("from") LocalDate from,
+                                                           @Param("to") LocalDate to);
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.LOOKUP))
+    @Query("select min(a.date) from Attendance a where a.user = :user")
+    LocalDate findFirstDateByUser(@Param("user") User user);
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.LIST))
+    @Query("select a.user.id from Attendance a where a.date = :date and a.user.id between :fromId and :toId")
+    Set<Long> findUserIdsByDateAndUserIdBetween(@Param("date") LocalDate date,
+                                                @Param("fromId") long fromId,
+                                                @Param("toId") long toId);
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.REPORT))
+    @EntityGraph(attributePaths = "user")
     List<Attendance> findAllByOrderByDateDesc();
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.REPORT)})
+    @Query("select a from Attendance a join fetch a.user order by a.date desc")
+    Stream<Attendance> streamAllByOrderByDateDesc();
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.LIST)})
+    Stream<Attendance> streamAllByUserIdOrderByDateDesc(Long userId);
 }
@@ -0,0 +1,23 @@
+package com.ernoxin.atency.repository;
+
+import com.ernoxin.atency.entity.Attendance;
+import com.ernoxin.atency.entity.AttendanceStatus;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AttendanceSearchRepository {
+
+    // Only the filters that are set end up in the query, so each combination gets a plan that fits its indexes.
+    @Transactional(readOnly = true)
+    List<Attendance> search(Filter filter, int limit);
+
+    /**
+     * {@code pattern} is a lower-case LIKE pattern matched against username and full name. Results run from
+     * newest to oldest; {@code beforeDate}/{@code beforeId} continue after the last row of a previous page.
+     */
+    record Filter(String pattern, LocalDate from, LocalDate to, AttendanceStatus status,
+                  LocalDate beforeDate, Long beforeId) {
+    }
+}
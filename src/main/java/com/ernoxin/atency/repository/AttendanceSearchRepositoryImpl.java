@@ -0,0 +1,55 @@
+package com.ernoxin.atency.repository;
+
+import com.ernoxin.atency.entity.Attendance;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.SpecHints;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class AttendanceSearchRepositoryImpl implements AttendanceSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Attendance> search(Filter filter, int limit) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+        if (filter.pattern() != null) {
+            // Matches the trigram indexes on lower(username) and lower(full_name).
+            conditions.add("(lower(u.username) like :pattern escape '\\' or lower(u.fullName) like :pattern escape '\\')");
+            parameters.put("pattern", filter.pattern());
+        }
+        if (filter.from() != null) {
+            conditions.add("a.date >= :from");
+            parameters.put("from", filter.from());
+        }
+        if (filter.to() != null) {
+            conditions.add("a.date <= :to");
+            parameters.put("to", filter.to());
+        }
+        if (filter.status() != null) {
+            conditions.add("a.status = :status");
+            parameters.put("status", filter.status());
+        }
+        if (filter.beforeDate() != null) {
+            conditions.add("(a.date < :beforeDate or (a.date = :beforeDate and a.id < :beforeId))");
+            parameters.put("beforeDate", filter.beforeDate());
+            parameters.put("beforeId", filter.beforeId());
+        }
+
+        String jpql = "select a from Attendance a join fetch a.user u"
+                + (conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions))
+                + " order by a.date desc, a.id desc";
+        TypedQuery<Attendance> query = entityManager.createQuery(jpql, Attendance.class)
+                .setHint(SpecHints.HINT_SPEC_QUERY_TIMEOUT, QueryTimeouts.REPORT)
+                .setMaxResults(limit);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+}
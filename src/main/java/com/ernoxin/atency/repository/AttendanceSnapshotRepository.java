@@ -0,0 +1,24 @@
+package com.ernoxin.atency.repository;
+
+import com.ernoxin.atency.entity.AttendanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface AttendanceSnapshotRepository extends JpaRepository<AttendanceSnapshot, Long> {
+
+    @Modifying
+    @Query(value = "insert into attendance_snapshot "
+            + "(user_id, version, present_days, absent_days, worked_seconds, taken_at) "
+            + "select s.user_id, s.version, s.present_days, s.absent_days, s.worked_seconds, :takenAt "
+            + "from attendance_summary s "
+            + "on conflict (user_id) do update set version = excluded.version, "
+            + "present_days = excluded.present_days, absent_days = excluded.absent_days, "
+            + "worked_seconds = excluded.worked_seconds, taken_at = excluded.taken_at "
+            + "where attendance_snapshot.version < excluded.version",
+            nativeQuery = true)
+    int copyFromSummaries(@Param("takenAt") Instant takenAt);
+}
@@ -0,0 +1,31 @@
+package com.ernoxin.atency.repository;
+
+import com.ernoxin.atency.entity.AttendanceSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AttendanceSummaryRepository extends JpaRepository<AttendanceSummary, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from AttendanceSummary s where s.userId = :userId")
+    Optional<AttendanceSummary> findForUpdate(@Param("userId") Long userId);
+
+    // Locked in id order so that two shard-wide writers cannot deadlock each other.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from AttendanceSummary s where s.userId in :userIds order by s.userId")
+    List<AttendanceSummary> findAllForUpdate(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query(value = "insert into attendance_summary (user_id, version, present_days, absent_days, worked_seconds) "
+            + "select u.id, 0, 0, 0, 0 from users u where u.id in (:userIds) on conflict (user_id) do nothing",
+            nativeQuery = true)
+    int insertMissing(@Param("userIds") Collection<Long> userIds);
+}
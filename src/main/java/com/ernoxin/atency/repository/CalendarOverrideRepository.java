@@ -0,0 +1,14 @@
+package com.ernoxin.atency.repository;
+
+import com.ernoxin.atency.entity.CalendarOverride;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface CalendarOverrideRepository extends JpaRepository<CalendarOverride, Long> {
+    Optional<CalendarOverride> findByDate(LocalDate date);
+
+    List<CalendarOverride> findAllByDateBetweenOrderByDateAsc(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,41 @@
+package com.ernoxin.atency.repository;
+
+import com.ernoxin.atency.entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+// Lease times are taken from the database clock, so nodes with skewed clocks still agree on expiry.
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    @Modifying
+    @Transactional
+    @Query(value = "insert into job_lease (job_name, owner, acquired_at, expires_at) "
+            + "values (:jobName, :owner, current_timestamp, current_timestamp + :ttlMs * interval '1 millisecond') "
+            + "on conflict (job_name) do nothing",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("jobName") String jobName, @Param("owner") String owner, @Param("ttlMs") long ttlMs);
+
+    @Modifying
+    @Transactional
+    @Query(value = "update job_lease set owner = :owner, acquired_at = current_timestamp, "
+            + "expires_at = current_timestamp + :ttlMs * interval '1 millisecond' "
+            + "where job_name = :jobName and (expires_at < current_timestamp or owner = :owner)",
+            nativeQuery = true)
+    int takeOver(@Param("jobName") String jobName, @Param("owner") String owner, @Param("ttlMs") long ttlMs);
+
+    @Modifying
+    @Transactional
+    @Query(value = "update job_lease set expires_at = current_timestamp + :ttlMs * interval '1 millisecond' "
+            + "where job_name = :jobName and owner = :owner",
+            nativeQuery = true)
+    int renew(@Param("jobName") String jobName, @Param("owner") String owner, @Param("ttlMs") long ttlMs);
+
+    @Modifying
+    @Transactional
+    @Query(value = "update job_lease set expires_at = current_timestamp where job_name = :jobName and owner = :owner",
+            nativeQuery = true)
+    int release(@Param("jobName") String jobName, @Param("owner") String owner);
+}
@@ -0,0 +1,7 @@
+package com.ernoxin.atency.repository;
+
+import com.ernoxin.atency.entity.JobRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+}
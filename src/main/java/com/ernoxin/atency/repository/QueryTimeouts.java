@@ -0,0 +1,20 @@
+package com.ernoxin.atency.repository;
+
+/**
+ * Query timeouts in milliseconds, for {@code jakarta.persistence.query.timeout} hints. Once a query runs past
+ * its timeout the driver cancels it and the caller gets a {@code QueryTimeoutException}.
+ */
+public final class QueryTimeouts {
+
+    // A single row on the check-in path.
+    public static final String LOOKUP = "2000";
+
+    // One user's history, or one shard of users for a job.
+    public static final String LIST = "5000";
+
+    // Reads across all users behind admin pages and exports.
+    public static final String REPORT = "30000";
+
+    private QueryTimeouts() {
+    }
+}
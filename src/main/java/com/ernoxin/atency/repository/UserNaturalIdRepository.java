@@ -0,0 +1,13 @@
+package com.ernoxin.atency.repository;
+
+import com.ernoxin.atency.entity.User;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface UserNaturalIdRepository {
+
+    // Resolved through the natural-id API so lookups hit the second-level cache instead of running a query.
+    @Transactional(readOnly = true)
+    Optional<User> findByUsername(String username);
+}
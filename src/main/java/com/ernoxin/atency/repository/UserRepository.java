@@ -1,12 +1,43 @@
 package com.ernoxin.atency.repository;
 
 import com.ernoxin.atency.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
-
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByUsername(String username);
+import java.time.LocalDate;
+import java.util.List;
 
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
     boolean existsByUsername(String username);
+
+    // Prefix matches rank first; both LIKEs are served by the trigram indexes on the lower-cased columns.
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = QueryTimeouts.LIST))
+    @Query("select u from User u "
+            + "where lower(u.username) like :pattern escape '\\' or lower(u.fullName) like :pattern escape '\\' "
+            + "order by case when lower(u.username) like :prefix escape '\\' "
+            + "or lower(u.fullName) like :prefix escape '\\' then 0 else 1 end, u.fullName, u.id")
+    List<User> search(@Param("pattern") String pattern, @Param("prefix") String prefix, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select min(u.id) from User u")
+    Long findMinId();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select max(u.id) from User u")
+    Long findMaxId();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select u.id from User u where u.id between :fromId and :toId")
+    List<Long> findIdsBetween(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query("select u.id from User u where u.id between :fromId and :toId "
+            + "and (u.registeredOn is null or u.registeredOn <= :date)")
+    List<Long> findIdsBetweenRegisteredBy(@Param("fromId") long fromId, @Param("toId") long toId,
+                                          @Param("date") LocalDate date);
 }
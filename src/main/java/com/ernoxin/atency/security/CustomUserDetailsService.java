@@ -1,5 +1,8 @@
 package com.ernoxin.atency.security;
 
+import com.ernoxin.atency.entity.User;
+import com.ernoxin.atency.jfr.UserLoadEvent;
+import com.ernoxin.atency.logging.RequestProfile;
 import com.ernoxin.atency.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
@@ -16,8 +19,17 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(@NonNull String username) throws UsernameNotFoundException {
-        return userRepository.findByUsername(username)
-                .map(UserPrincipal::fromUser)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        RequestProfile.enter(RequestProfile.Phase.USER_LOOKUP);
+        UserLoadEvent event = UserLoadEvent.start();
+        try {
+            User user = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+            event.setUserId(user.getId());
+            event.setFound(true);
+            return UserPrincipal.fromUser(user);
+        } finally {
+            event.finish();
+            RequestProfile.exit();
+        }
     }
 }
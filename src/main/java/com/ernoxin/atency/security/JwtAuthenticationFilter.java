@@ -1,5 +1,7 @@
 package com.ernoxin.atency.security;
 
+import com.ernoxin.atency.jfr.JwtVerificationEvent;
+import com.ernoxin.atency.logging.RequestProfile;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,17 +34,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String token = authHeader.substring(7);
-        String username;
-        try {
-            username = jwtService.extractUsername(token);
-        } catch (Exception ex) {
-            filterChain.doFilter(request, response);
-            return;
-        }
+        String username = extractUsername(token);
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            if (jwtService.isTokenValid(token, userDetails)) {
+            if (isTokenValid(token, userDetails)) {
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -55,4 +51,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    // Null for a token that cannot be parsed; the request then continues unauthenticated.
+    private String extractUsername(String token) {
+        RequestProfile.enter(RequestProfile.Phase.JWT);
+        JwtVerificationEvent event = JwtVerificationEvent.start();
+        try {
+            String username = jwtService.extractUsername(token);
+            event.setValid(true);
+            return username;
+        } catch (Exception ex) {
+            return null;
+        } finally {
+            event.finish();
+            RequestProfile.exit();
+        }
+    }
+
+    private boolean isTokenValid(String token, UserDetails userDetails) {
+        RequestProfile.enter(RequestProfile.Phase.JWT);
+        try {
+            return jwtService.isTokenValid(token, userDetails);
+        } finally {
+            RequestProfile.exit();
+        }
+    }
 }
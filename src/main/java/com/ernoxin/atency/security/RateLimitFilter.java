@@ -0,0 +1,206 @@
+package com.ernoxin.atency.security;
+
+import com.ernoxin.atency.dto.ApiErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PREFIX = "/api/auth/";
+    private static final String API_PREFIX = "/api/";
+    private static final String METRIC = "atency.rate_limit.requests";
+    // Login and register bodies are a few hundred bytes; larger or chunked ones are keyed by address only.
+    private static final int MAX_AUTH_BODY_BYTES = 4096;
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.rate-limit.stripes:16}")
+    private int stripes;
+
+    @Value("${app.rate-limit.auth.capacity:10}")
+    private long authCapacity;
+
+    @Value("${app.rate-limit.auth.refill-per-minute:10}")
+    private long authRefillPerMinute;
+
+    @Value("${app.rate-limit.auth-ip.capacity:300}")
+    private long authIpCapacity;
+
+    @Value("${app.rate-limit.auth-ip.refill-per-minute:600}")
+    private long authIpRefillPerMinute;
+
+    @Value("${app.rate-limit.api.capacity:60}")
+    private long apiCapacity;
+
+    @Value("${app.rate-limit.api.refill-per-minute:120}")
+    private long apiRefillPerMinute;
+
+    private TokenBucketLimiter authLimiter;
+    private TokenBucketLimiter authIpLimiter;
+    private TokenBucketLimiter apiLimiter;
+    private Counter authAllowed;
+    private Counter authRejected;
+    private Counter apiAllowed;
+    private Counter apiRejected;
+
+    @PostConstruct
+    void init() {
+        this.authLimiter = new TokenBucketLimiter(authCapacity, authRefillPerMinute, stripes);
+        this.authIpLimiter = new TokenBucketLimiter(authIpCapacity, authIpRefillPerMinute, stripes);
+        this.apiLimiter = new TokenBucketLimiter(apiCapacity, apiRefillPerMinute, stripes);
+        this.authAllowed = counter("auth", "allowed");
+        this.authRejected = counter("auth", "rejected");
+        this.apiAllowed = counter("api", "allowed");
+        this.apiRejected = counter("api", "rejected");
+        Gauge.builder("atency.rate_limit.buckets", authLimiter, TokenBucketLimiter::size)
+                .tag("scope", "auth")
+                .register(meterRegistry);
+        Gauge.builder("atency.rate_limit.buckets", authIpLimiter, TokenBucketLimiter::size)
+                .tag("scope", "auth-ip")
+                .register(meterRegistry);
+        Gauge.builder("atency.rate_limit.buckets", apiLimiter, TokenBucketLimiter::size)
+                .tag("scope", "api")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        authLimiter.evictIdle(now);
+        authIpLimiter.evictIdle(now);
+        apiLimiter.evictIdle(now);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(API_PREFIX);
+    }
+
+    // The remote address is the client's own: the container resolves it from X-Forwarded-For when the connection
+    // comes from a trusted proxy (server.tomcat.remoteip.internal-proxies), so clients behind one balancer do not
+    // share a bucket and a client cannot pick its key by sending the header itself.
+    // Auth calls are limited per address and username, so staff logging in behind one office NAT do not drain each
+    // other's bucket; a much larger per-address bucket still caps guessing across many usernames.
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean authEndpoint = request.getRequestURI().startsWith(AUTH_PREFIX);
+        long waitNanos;
+        if (authEndpoint) {
+            long now = System.nanoTime();
+            String address = request.getRemoteAddr();
+            waitNanos = authIpLimiter.tryAcquire(address, now);
+            if (waitNanos == 0 && isSmallBody(request)) {
+                CachedBodyRequest cached = new CachedBodyRequest(request);
+                request = cached;
+                waitNanos = authLimiter.tryAcquire(address + "|" + username(cached.getBody()), now);
+            } else if (waitNanos == 0) {
+                waitNanos = authLimiter.tryAcquire(address, now);
+            }
+        } else {
+            waitNanos = apiLimiter.tryAcquire(resolveClientKey(request), System.nanoTime());
+        }
+
+        if (waitNanos == 0) {
+            (authEndpoint ? authAllowed : apiAllowed).increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        (authEndpoint ? authRejected : apiRejected).increment();
+        reject(request, response, waitNanos);
+    }
+
+    // The reactive read port charges the same buckets, so moving dashboard polling there does not double a
+    // user's budget. Returns how long the caller has to wait, or zero when the call may proceed.
+    public long tryAcquireApi(String clientKey) {
+        if (!enabled) {
+            return 0;
+        }
+        long waitNanos = apiLimiter.tryAcquire(clientKey, System.nanoTime());
+        (waitNanos == 0 ? apiAllowed : apiRejected).increment();
+        return waitNanos;
+    }
+
+    public static String userKey(String username) {
+        return "user:" + username;
+    }
+
+    public static String addressKey(String address) {
+        return "ip:" + address;
+    }
+
+    public static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+    }
+
+    private static boolean isSmallBody(HttpServletRequest request) {
+        long length = request.getContentLengthLong();
+        return length > 0 && length <= MAX_AUTH_BODY_BYTES;
+    }
+
+    // Usernames are matched case-insensitively here, so changing case does not open a fresh bucket.
+    private String username(byte[] body) {
+        try {
+            return objectMapper.readTree(body).path("username").asString("").trim().toLowerCase(Locale.ROOT);
+        } catch (JacksonException ex) {
+            return "";
+        }
+    }
+
+    private String resolveClientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return userKey(principal.getUsername());
+        }
+        return addressKey(request.getRemoteAddr());
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos)
+            throws IOException {
+        ApiErrorResponse body = ApiErrorResponse.of(
+                HttpStatus.TOO_MANY_REQUESTS,
+                "Too many requests. Please retry later.",
+                request.getRequestURI(),
+                null);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds(waitNanos)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private Counter counter(String scope, String outcome) {
+        return Counter.builder(METRIC)
+                .tag("scope", scope)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ernoxin.atency.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token buckets keyed by client. Each bucket is a single {@link AtomicLong} holding the
+ * theoretical arrival time of the next request (the GCRA form of a token bucket), updated with a
+ * CAS loop. Keys are spread over independent maps so eviction and resizing never touch all
+ * clients at once.
+ */
+public class TokenBucketLimiter {
+
+    private final long capacity;
+    private final long intervalNanos;
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    public TokenBucketLimiter(long capacity, long refillPerMinute, int stripeCount) {
+        this.capacity = capacity;
+        this.intervalNanos = 60_000_000_000L / refillPerMinute;
+        this.stripes = new ConcurrentHashMap[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Takes one token for {@code key}.
+     *
+     * @return {@code 0} when the request may proceed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        AtomicLong arrival = stripe(key).computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+        while (true) {
+            long current = arrival.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long wait = next - nowNanos - capacity * intervalNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Drops buckets that have refilled completely; they behave exactly like a new bucket.
+     */
+    public void evictIdle(long nowNanos) {
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            stripe.values().removeIf(arrival -> arrival.get() <= nowNanos);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private ConcurrentHashMap<String, AtomicLong> stripe(String key) {
+        return stripes[Math.floorMod(key.hashCode(), stripes.length)];
+    }
+}
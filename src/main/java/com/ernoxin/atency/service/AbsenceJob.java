@@ -0,0 +1,142 @@
+package com.ernoxin.atency.service;
+
+import com.ernoxin.atency.jfr.AbsenceShardEvent;
+import com.ernoxin.atency.repository.AbsenceJobCheckpointRepository;
+import com.ernoxin.atency.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Marks absences for every missed working day up to yesterday. Users are split into fixed id-range
+ * shards that run in parallel, each in its own transaction, and every finished shard leaves a
+ * checkpoint so a rerun only picks up the shards that did not complete. A user is only marked from their
+ * registration date on, so a shard that appears with new users settles the earlier days without marking them.
+ */
+@Component
+@RequiredArgsConstructor
+public class AbsenceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(AbsenceJob.class);
+
+    private final AttendanceService attendanceService;
+    private final UserRepository userRepository;
+    private final AbsenceJobCheckpointRepository checkpointRepository;
+    private final CalendarService calendarService;
+
+    @Value("${app.absence-job.shard-size:1000}")
+    private long shardSize;
+
+    @Value("${app.absence-job.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.absence-job.max-backfill-days:31}")
+    private int maxBackfillDays;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism,
+                runnable -> new Thread(runnable, "absence-job-" + counter.incrementAndGet()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    public void run(LocalDate today, ClusterJobRunner.Lease lease) {
+        for (LocalDate date : pendingDates(today)) {
+            lease.ensureHeld();
+            processDate(date, lease);
+        }
+    }
+
+    private List<LocalDate> pendingDates(LocalDate today) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate floor = today.minusDays(maxBackfillDays);
+        LocalDate cursor = calendarService.previousWorkingDay(today);
+        while (!cursor.isBefore(floor) && !isComplete(cursor)) {
+            dates.addFirst(cursor);
+            // Without any earlier run there is nothing to catch up on, only the latest day.
+            if (!checkpointRepository.existsByDateLessThan(cursor)) {
+                break;
+            }
+            cursor = calendarService.previousWorkingDay(cursor);
+        }
+        return dates;
+    }
+
+    private boolean isComplete(LocalDate date) {
+        Set<Long> done = checkpointRepository.findShardStartsByDate(date);
+        return !done.isEmpty() && shards().stream().allMatch(shard -> done.contains(shard.fromUserId()));
+    }
+
+    private void processDate(LocalDate date, ClusterJobRunner.Lease lease) {
+        Set<Long> done = checkpointRepository.findShardStartsByDate(date);
+        List<CompletableFuture<Integer>> pending = shards().stream()
+                .filter(shard -> !done.contains(shard.fromUserId()))
+                .map(shard -> CompletableFuture.supplyAsync(() -> {
+                    // Shards still queued when the lease is lost are left to the node that took it over.
+                    lease.ensureHeld();
+                    return markAbsent(date, shard);
+                }, executor))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException ex) {
+            throw new IllegalStateException("Absence job failed for " + date, ex.getCause());
+        }
+
+        int inserted = pending.stream().mapToInt(CompletableFuture::join).sum();
+        log.info("Absence job completed date={} shards={} inserted={}", date, pending.size(), inserted);
+    }
+
+    private int markAbsent(LocalDate date, Shard shard) {
+        AbsenceShardEvent event = AbsenceShardEvent.start();
+        try {
+            int inserted = attendanceService.markAbsentForShard(date, shard.fromUserId(), shard.toUserId());
+            event.setRows(inserted);
+            return inserted;
+        } finally {
+            event.setDate(date.toString());
+            event.setFromUserId(shard.fromUserId());
+            event.setToUserId(shard.toUserId());
+            event.finish();
+        }
+    }
+
+    // Shard bounds are aligned to multiples of the shard size so they stay stable across reruns.
+    private List<Shard> shards() {
+        Long minId = userRepository.findMinId();
+        Long maxId = userRepository.findMaxId();
+        List<Shard> shards = new ArrayList<>();
+        if (minId == null || maxId == null) {
+            return shards;
+        }
+        for (long start = (minId / shardSize) * shardSize; start <= maxId; start += shardSize) {
+            shards.add(new Shard(start, start + shardSize - 1));
+        }
+        return shards;
+    }
+
+    private record Shard(long fromUserId, long toUserId) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.ernoxin.atency.service;
+
+/**
+ * How absences are recorded. {@code MATERIALIZED} inserts an ABSENT row per user and missed
+ * working day from the nightly job; {@code DERIVED} stores nothing and computes absences as the
+ * calendar's working days minus the days the user was present.
+ */
+public enum AbsenceMode {
+    MATERIALIZED,
+    DERIVED
+}
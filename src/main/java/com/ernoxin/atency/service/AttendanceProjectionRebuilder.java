@@ -0,0 +1,114 @@
+package com.ernoxin.atency.service;
+
+import com.ernoxin.atency.exception.BadRequestException;
+import com.ernoxin.atency.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rebuilds the attendance projections from the event log. Users are split into id-range shards that
+ * are replayed in parallel, each in its own transaction, starting from the latest snapshots.
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceProjectionRebuilder {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceProjectionRebuilder.class);
+    private static final String REBUILD_JOB = "projection-rebuild";
+
+    private final AttendanceProjector attendanceProjector;
+    private final UserRepository userRepository;
+    private final ClusterJobRunner clusterJobRunner;
+
+    @Value("${app.projection.shard-size:1000}")
+    private long shardSize;
+
+    @Value("${app.projection.parallelism:4}")
+    private int parallelism;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism,
+                runnable -> new Thread(runnable, "projection-rebuild-" + counter.incrementAndGet()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    // Runs in the background on one node; progress and failures are recorded as a job run.
+    public void startRebuild(boolean full) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new BadRequestException("A projection rebuild is already running");
+        }
+        Thread.ofVirtual().name(REBUILD_JOB).start(() -> {
+            try {
+                clusterJobRunner.runExclusively(REBUILD_JOB, lease -> rebuild(full, lease));
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    public void rebuild(boolean full, ClusterJobRunner.Lease lease) {
+        long started = System.nanoTime();
+        List<CompletableFuture<Long>> pending = shards().stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> {
+                    lease.ensureHeld();
+                    return attendanceProjector.rebuild(shard.fromUserId(), shard.toUserId(), full);
+                }, executor))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException ex) {
+            throw new IllegalStateException("Projection rebuild failed", ex.getCause());
+        }
+
+        long replayed = pending.stream().mapToLong(CompletableFuture::join).sum();
+        log.info("Projection rebuild completed full={} shards={} events={} elapsedMs={}",
+                full, pending.size(), replayed, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public void snapshot() {
+        long started = System.nanoTime();
+        int users = attendanceProjector.snapshot();
+        log.info("Projection snapshot completed users={} elapsedMs={}",
+                users, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private List<Shard> shards() {
+        Long minId = userRepository.findMinId();
+        Long maxId = userRepository.findMaxId();
+        List<Shard> shards = new ArrayList<>();
+        if (minId == null || maxId == null) {
+            return shards;
+        }
+        for (long start = (minId / shardSize) * shardSize; start <= maxId; start += shardSize) {
+            shards.add(new Shard(start, start + shardSize - 1));
+        }
+        return shards;
+    }
+
+    private record Shard(long fromUserId, long toUserId) {
+    }
+}
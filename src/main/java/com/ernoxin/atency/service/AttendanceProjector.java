@@ -0,0 +1,326 @@
+package com.ernoxin.atency.service;
+
+import com.ernoxin.atency.entity.Attendance;
+import com.ernoxin.atency.entity.AttendanceEvent;
+import com.ernoxin.atency.entity.AttendanceEventType;
+import com.ernoxin.atency.entity.AttendanceOutboxMessage;
+import com.ernoxin.atency.entity.AttendanceSnapshot;
+import com.ernoxin.atency.entity.AttendanceStatus;
+import com.ernoxin.atency.entity.AttendanceSummary;
+import com.ernoxin.atency.entity.User;
+import com.ernoxin.atency.exception.BadRequestException;
+import com.ernoxin.atency.repository.AttendanceEventRepository;
+import com.ernoxin.atency.repository.AttendanceOutboxRepository;
+import com.ernoxin.atency.repository.AttendanceRepository;
+import com.ernoxin.atency.repository.AttendanceSnapshotRepository;
+import com.ernoxin.atency.repository.AttendanceSummaryRepository;
+import com.ernoxin.atency.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Appends to the attendance log and folds each event into the projections in the same transaction: the
+ * daily {@code attendance} rows and the per-user {@code attendance_summary}. Every changed row is also
+ * written to the outbox for downstream consumers. Appends for one user are serialized on that user's
+ * summary row, so users never wait on each other.
+ * <p>
+ * That makes a check-in or check-out seven statements instead of a read and a write of the daily row: the
+ * repeat check, the summary lock, the day read, the event, daily row and outbox writes, and the summary
+ * update. A user's first append also creates the summary row.
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceProjector {
+
+    public static final String SYSTEM = "system";
+
+    // Retried check-ins and check-outs end here most of the time, so the rejections are created once.
+    private static final BadRequestException ALREADY_CHECKED_IN =
+            new BadRequestException("You have already checked in today");
+    private static final BadRequestException CHECK_IN_REQUIRED =
+            new BadRequestException("Check-in is required before check-out");
+    private static final BadRequestException ALREADY_CHECKED_OUT =
+            new BadRequestException("You have already checked out today");
+    private static final BadRequestException CHECK_OUT_BEFORE_CHECK_IN =
+            new BadRequestException("Check-out time must be after check-in time");
+
+    private final AttendanceEventRepository eventRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceSummaryRepository summaryRepository;
+    private final AttendanceSnapshotRepository snapshotRepository;
+    private final AttendanceOutboxRepository outboxRepository;
+    private final UserRepository userRepository;
+
+    @Transactional
+    public Attendance append(User user, AttendanceEvent event) {
+        rejectRepeat(user, event);
+        AttendanceSummary summary = lockSummary(user.getId());
+        Attendance day = attendanceRepository.findByUserAndDate(user, event.getDate()).orElse(null);
+        Contribution before = Contribution.of(day);
+
+        // Folding validates the transition, so a rejected command leaves neither an event nor a change behind.
+        Attendance folded = fold(day, event);
+        folded.setUser(user);
+        event.setUserId(user.getId());
+        event.setVersion(summary.getVersion() + 1);
+        if (event.getRecordedAt() == null) {
+            event.setRecordedAt(Instant.now());
+        }
+
+        eventRepository.save(event);
+        Attendance saved = attendanceRepository.save(folded);
+        outboxRepository.save(toOutbox(event, saved));
+        apply(summary, before, Contribution.of(saved), event.getVersion());
+        return saved;
+    }
+
+    @Transactional
+    public int appendAbsences(LocalDate date, long fromUserId, long toUserId) {
+        // A user is not absent on days before they registered.
+        List<Long> userIds = userRepository.findIdsBetweenRegisteredBy(fromUserId, toUserId, date);
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        summaryRepository.insertMissing(userIds);
+        List<AttendanceSummary> summaries = summaryRepository.findAllForUpdate(userIds);
+        // Read after locking, so a correction committed in between is not overwritten by an absence.
+        Set<Long> recorded = attendanceRepository.findUserIdsByDateAndUserIdBetween(date, fromUserId, toUserId);
+
+        Instant now = Instant.now();
+        List<AttendanceEvent> events = new ArrayList<>();
+        List<Attendance> absences = new ArrayList<>();
+        for (AttendanceSummary summary : summaries) {
+            if (recorded.contains(summary.getUserId())) {
+                continue;
+            }
+            AttendanceEvent event = AttendanceEvent.builder()
+                    .userId(summary.getUserId())
+                    .version(summary.getVersion() + 1)
+                    .date(date)
+                    .type(AttendanceEventType.ABSENCE)
+                    .recordedAt(now)
+                    .recordedBy(SYSTEM)
+                    .build();
+            events.add(event);
+            absences.add(Attendance.builder()
+                    .user(userRepository.getReferenceById(summary.getUserId()))
+                    .date(date)
+                    .status(AttendanceStatus.ABSENT)
+                    .build());
+            summary.setAbsentDays(summary.getAbsentDays() + 1);
+            summary.setVersion(event.getVersion());
+        }
+        eventRepository.saveAll(events);
+        attendanceRepository.saveAll(absences);
+        List<AttendanceOutboxMessage> messages = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            messages.add(toOutbox(events.get(i), absences.get(i)));
+        }
+        outboxRepository.saveAll(messages);
+        return absences.size();
+    }
+
+    /**
+     * Recomputes the projections of one user-id shard from the log. Without {@code full}, each user starts
+     * from the latest snapshot and only days with later events are folded again; with it, the whole log is
+     * replayed. Daily rows are rewritten in place, keyed by user and date, so attendance ids already
+     * published through the outbox keep pointing at the same day; only rows with no events behind them are
+     * dropped. Returns the number of events replayed.
+     */
+    @Transactional
+    public long rebuild(long fromUserId, long toUserId, boolean full) {
+        List<Long> userIds = userRepository.findIdsBetween(fromUserId, toUserId);
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        summaryRepository.insertMissing(userIds);
+        // Locked in the same order as appends, before any daily row is read or dropped.
+        List<AttendanceSummary> summaries = summaryRepository.findAllForUpdate(userIds);
+        Map<Long, AttendanceSnapshot> snapshots = full
+                ? Map.of()
+                : snapshotRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(AttendanceSnapshot::getUserId, Function.identity()));
+
+        long replayed = 0;
+        for (AttendanceSummary summary : summaries) {
+            replayed += rebuildUser(summary, snapshots.get(summary.getUserId()), full);
+        }
+        return replayed;
+    }
+
+    @Transactional
+    public int snapshot() {
+        return snapshotRepository.copyFromSummaries(Instant.now());
+    }
+
+    private long rebuildUser(AttendanceSummary summary, AttendanceSnapshot snapshot, boolean full) {
+        Long userId = summary.getUserId();
+        long baseVersion = snapshot == null ? 0 : snapshot.getVersion();
+        summary.setVersion(baseVersion);
+        summary.setPresentDays(snapshot == null ? 0 : snapshot.getPresentDays());
+        summary.setAbsentDays(snapshot == null ? 0 : snapshot.getAbsentDays());
+        summary.setWorkedSeconds(snapshot == null ? 0 : snapshot.getWorkedSeconds());
+
+        List<AttendanceEvent> replay =
+                eventRepository.findAllByUserIdAndVersionGreaterThanOrderByVersion(userId, baseVersion);
+        Map<LocalDate, Attendance> rows = full
+                ? attendanceRepository.findAllByUserIdOrderByDateDesc(userId).stream()
+                .collect(Collectors.toMap(Attendance::getDate, Function.identity()))
+                : new HashMap<>();
+        if (replay.isEmpty()) {
+            attendanceRepository.deleteAll(rows.values());
+            return 0;
+        }
+
+        // A day touched after the snapshot is folded twice: up to the snapshot, which is what the snapshot
+        // totals already contain, and in full, which is what they should contain now.
+        Set<LocalDate> dates = replay.stream().map(AttendanceEvent::getDate).collect(Collectors.toSet());
+        List<AttendanceEvent> history = baseVersion == 0
+                ? replay
+                : eventRepository.findAllByUserIdAndDateInOrderByVersion(userId, dates);
+        if (!full) {
+            attendanceRepository.findAllByUserIdAndDateIn(userId, dates).forEach(row -> rows.put(row.getDate(), row));
+        }
+        Map<LocalDate, List<AttendanceEvent>> byDate = history.stream()
+                .collect(Collectors.groupingBy(AttendanceEvent::getDate, TreeMap::new, Collectors.toList()));
+
+        byDate.forEach((date, events) -> {
+            Attendance before = null;
+            Attendance after = null;
+            for (AttendanceEvent event : events) {
+                if (event.getVersion() <= baseVersion) {
+                    before = fold(before, event);
+                }
+                after = fold(after, event);
+            }
+            apply(summary, Contribution.of(before), Contribution.of(after), summary.getVersion());
+
+            Attendance row = rows.remove(date);
+            if (row == null) {
+                row = Attendance.builder()
+                        .user(userRepository.getReferenceById(userId))
+                        .date(date)
+                        .build();
+            }
+            row.setCheckInTime(after.getCheckInTime());
+            row.setCheckOutTime(after.getCheckOutTime());
+            row.setWorkedSeconds(after.getWorkedSeconds());
+            row.setStatus(after.getStatus());
+            attendanceRepository.save(row);
+        });
+        // Left over only in a full rebuild: days the log has no events for.
+        attendanceRepository.deleteAll(rows.values());
+        summary.setVersion(replay.getLast().getVersion());
+        return replay.size();
+    }
+
+    private static AttendanceOutboxMessage toOutbox(AttendanceEvent event, Attendance attendance) {
+        return AttendanceOutboxMessage.builder()
+                .type(event.getType())
+                .attendanceId(attendance.getId())
+                .userId(event.getUserId())
+                .date(attendance.getDate())
+                .checkInTime(attendance.getCheckInTime())
+                .checkOutTime(attendance.getCheckOutTime())
+                .workedSeconds(attendance.getWorkedSeconds())
+                .status(attendance.getStatus())
+                .occurredAt(event.getRecordedAt())
+                .build();
+    }
+
+    // A repeated check-in or check-out is rejected on a plain indexed read, so it never queues on the summary
+    // row lock; one that slips past this check is still rejected by the fold under the lock.
+    private void rejectRepeat(User user, AttendanceEvent event) {
+        if (event.getType() == AttendanceEventType.CHECK_IN
+                && attendanceRepository.existsByUserAndDateAndCheckInTimeIsNotNull(user, event.getDate())) {
+            throw ALREADY_CHECKED_IN;
+        }
+        if (event.getType() == AttendanceEventType.CHECK_OUT
+                && attendanceRepository.existsByUserAndDateAndCheckOutTimeIsNotNull(user, event.getDate())) {
+            throw ALREADY_CHECKED_OUT;
+        }
+    }
+
+    private AttendanceSummary lockSummary(Long userId) {
+        return summaryRepository.findForUpdate(userId).orElseGet(() -> {
+            summaryRepository.insertMissing(List.of(userId));
+            return summaryRepository.findForUpdate(userId).orElseThrow();
+        });
+    }
+
+    private static void apply(AttendanceSummary summary, Contribution before, Contribution after, long version) {
+        summary.setPresentDays(summary.getPresentDays() + after.presentDays() - before.presentDays());
+        summary.setAbsentDays(summary.getAbsentDays() + after.absentDays() - before.absentDays());
+        summary.setWorkedSeconds(summary.getWorkedSeconds() + after.workedSeconds() - before.workedSeconds());
+        summary.setVersion(version);
+    }
+
+    // The state of one user-day after applying an event to it; rejects transitions a command may not make.
+    static Attendance fold(Attendance day, AttendanceEvent event) {
+        Attendance state = day != null ? day : Attendance.builder().date(event.getDate()).build();
+        switch (event.getType()) {
+            case CHECK_IN -> {
+                if (state.getCheckInTime() != null) {
+                    throw ALREADY_CHECKED_IN;
+                }
+                state.setCheckInTime(event.getCheckInTime());
+                state.setStatus(AttendanceStatus.PRESENT);
+            }
+            case CHECK_OUT -> {
+                if (state.getCheckInTime() == null) {
+                    throw CHECK_IN_REQUIRED;
+                }
+                if (state.getCheckOutTime() != null) {
+                    throw ALREADY_CHECKED_OUT;
+                }
+                if (event.getCheckOutTime().isBefore(state.getCheckInTime())) {
+                    throw CHECK_OUT_BEFORE_CHECK_IN;
+                }
+                state.setCheckOutTime(event.getCheckOutTime());
+                state.setWorkedSeconds(ChronoUnit.SECONDS.between(state.getCheckInTime(), event.getCheckOutTime()));
+                state.setStatus(AttendanceStatus.PRESENT);
+            }
+            case ABSENCE -> {
+                if (state.getStatus() == null) {
+                    state.setStatus(AttendanceStatus.ABSENT);
+                }
+            }
+            case CORRECTION -> {
+                state.setCheckInTime(event.getCheckInTime());
+                state.setCheckOutTime(event.getCheckOutTime());
+                state.setWorkedSeconds(event.getCheckInTime() != null && event.getCheckOutTime() != null
+                        ? ChronoUnit.SECONDS.between(event.getCheckInTime(), event.getCheckOutTime())
+                        : 0);
+                state.setStatus(event.getStatus());
+            }
+        }
+        return state;
+    }
+
+    private record Contribution(long presentDays, long absentDays, long workedSeconds) {
+
+        private static final Contribution NONE = new Contribution(0, 0, 0);
+
+        static Contribution of(Attendance day) {
+            if (day == null || day.getStatus() == null) {
+                return NONE;
+            }
+            return day.getStatus() == AttendanceStatus.PRESENT
+                    ? new Contribution(1, 0, day.getWorkedSeconds())
+                    : new Contribution(0, 1, 0);
+        }
+    }
+}
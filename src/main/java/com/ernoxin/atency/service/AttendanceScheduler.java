@@ -1,6 +1,9 @@
 package com.ernoxin.atency.service;
 
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -10,10 +13,51 @@ import java.time.LocalDate;
 @RequiredArgsConstructor
 public class AttendanceScheduler {
 
-    private final AttendanceService attendanceService;
+    private static final Logger log = LoggerFactory.getLogger(AttendanceScheduler.class);
+    private static final String ABSENCE_JOB = "absence-job";
+    private static final String SNAPSHOT_JOB = "projection-snapshot";
+    private static final String OUTBOX_PURGE_JOB = "outbox-purge";
 
-    @Scheduled(cron = "0 5 0 * * *")
+    private final AbsenceJob absenceJob;
+    private final AttendanceProjectionRebuilder projectionRebuilder;
+    private final OutboxRelay outboxRelay;
+    private final ClusterJobRunner clusterJobRunner;
+
+    @Value("${app.attendance.absence-mode:MATERIALIZED}")
+    private AbsenceMode absenceMode;
+
+    // Fires several times overnight; once a day is fully checkpointed a repeat run is a no-op,
+    // and a node whose leader died mid-run picks up the remaining shards.
+    @Scheduled(cron = "${app.absence-job.cron:0 5/30 0-3 * * *}")
     public void markAbsentForPreviousDay() {
-        attendanceService.markAbsentForDate(LocalDate.now().minusDays(1));
+        if (absenceMode == AbsenceMode.DERIVED) {
+            return;
+        }
+        clusterJobRunner.runExclusively(ABSENCE_JOB, lease -> absenceJob.run(LocalDate.now(), lease));
+    }
+
+    // Runs after the absence job has settled, so a rebuild replays at most one day of events per user.
+    @Scheduled(cron = "${app.projection.snapshot-cron:0 0 4 * * *}")
+    public void snapshotProjections() {
+        clusterJobRunner.runExclusively(SNAPSHOT_JOB, projectionRebuilder::snapshot);
+    }
+
+    // Relaying is frequent and short, so it coordinates through a transaction-scoped lock instead of a job lease.
+    @Scheduled(fixedDelayString = "${app.outbox.relay-interval-ms:1000}",
+            initialDelayString = "${app.outbox.relay-interval-ms:1000}")
+    public void relayOutbox() {
+        try {
+            boolean more = true;
+            while (more) {
+                more = outboxRelay.publishBatch();
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Outbox relay failed, retrying next round", ex);
+        }
+    }
+
+    @Scheduled(cron = "${app.outbox.purge-cron:0 30 4 * * *}")
+    public void purgeOutbox() {
+        clusterJobRunner.runExclusively(OUTBOX_PURGE_JOB, outboxRelay::purge);
     }
 }
@@ -1,10 +1,18 @@
 package com.ernoxin.atency.service;
 
+import com.ernoxin.atency.dto.AttendanceChangesDto;
+import com.ernoxin.atency.dto.AttendanceColumnsDto;
+import com.ernoxin.atency.dto.AttendanceCorrectionRequest;
+import com.ernoxin.atency.dto.AttendanceEventDto;
+import com.ernoxin.atency.dto.AttendancePageDto;
 import com.ernoxin.atency.dto.AttendanceRecordDto;
+import com.ernoxin.atency.dto.AttendanceSearchPageDto;
 import com.ernoxin.atency.dto.AttendanceSummaryDto;
+import com.ernoxin.atency.entity.AttendanceStatus;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface AttendanceService {
     AttendanceRecordDto checkIn(String username);
@@ -13,11 +21,32 @@ public interface AttendanceService {
 
     List<AttendanceRecordDto> getMyRecords(String username);
 
+    AttendancePageDto getMyRecords(String username, LocalDate from, LocalDate to, LocalDate cursor, int limit);
+
     AttendanceSummaryDto getMySummary(String username);
 
-    List<AttendanceRecordDto> getAllRecords();
+    AttendanceSummaryDto getSummaryByUserId(Long userId);
+
+    List<AttendanceRecordDto> getPresentNow();
+
+    List<AttendanceEventDto> getEventsByUserId(Long userId);
+
+    AttendanceSearchPageDto search(String query, LocalDate from, LocalDate to, AttendanceStatus status,
+                                   String cursor, int limit);
+
+    AttendanceChangesDto getChangesSince(Long cursor, int limit);
 
-    List<AttendanceRecordDto> getRecordsByUserId(Long userId);
+    AttendanceRecordDto correct(Long userId, AttendanceCorrectionRequest request, String recordedBy);
+
+    void streamAllRecords(Consumer<AttendanceRecordDto> sink);
+
+    void streamRecordsByUserId(Long userId, Consumer<AttendanceRecordDto> sink);
+
+    AttendanceColumnsDto getAllRecordsColumnar();
+
+    AttendanceColumnsDto getRecordsByUserIdColumnar(Long userId);
 
     void markAbsentForDate(LocalDate date);
+
+    int markAbsentForShard(LocalDate date, long fromUserId, long toUserId);
 }
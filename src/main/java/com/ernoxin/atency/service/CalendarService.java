@@ -0,0 +1,21 @@
+package com.ernoxin.atency.service;
+
+import com.ernoxin.atency.dto.CalendarOverrideDto;
+import com.ernoxin.atency.dto.CalendarOverrideRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface CalendarService {
+    boolean isWorkingDay(LocalDate date);
+
+    LocalDate previousWorkingDay(LocalDate date);
+
+    int countWorkingDays(LocalDate from, LocalDate to);
+
+    List<CalendarOverrideDto> getOverrides(int year);
+
+    CalendarOverrideDto saveOverride(CalendarOverrideRequest request);
+
+    void deleteOverride(LocalDate date);
+}
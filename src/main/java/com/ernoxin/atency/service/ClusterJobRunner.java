@@ -0,0 +1,175 @@
+package com.ernoxin.atency.service;
+
+import com.ernoxin.atency.entity.JobRun;
+import com.ernoxin.atency.entity.JobRunStatus;
+import com.ernoxin.atency.repository.JobLeaseRepository;
+import com.ernoxin.atency.repository.JobRunRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs a job on at most one node of the cluster. The node must hold the job's row in
+ * {@code job_lease}; the lease is renewed while the job runs and released afterwards, and a lease
+ * left behind by a node that died simply expires so the next node to try takes over. Expiry is set and
+ * compared on the database clock, so a node whose own clock runs ahead cannot take over a live lease. Once a
+ * renewal finds the lease gone, the job is told through its {@link Lease} and stops at its next step.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClusterJobRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterJobRunner.class);
+    private static final int MESSAGE_LENGTH = 500;
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final JobRunRepository jobRunRepository;
+
+    @Value("${app.cluster.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${app.cluster.lease-ttl:5m}")
+    private Duration leaseTtl;
+
+    private String nodeId;
+    private ScheduledExecutorService renewals;
+
+    @PostConstruct
+    void init() {
+        this.nodeId = configuredNodeId == null || configuredNodeId.isBlank() ? generateNodeId() : configuredNodeId;
+        this.renewals = Executors.newSingleThreadScheduledExecutor(
+                runnable -> new Thread(runnable, "job-lease-renewal"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewals.shutdownNow();
+    }
+
+    public void runExclusively(String jobName, Runnable job) {
+        runExclusively(jobName, lease -> job.run());
+    }
+
+    public void runExclusively(String jobName, Consumer<Lease> job) {
+        Lease lease = acquire(jobName);
+        if (lease == null) {
+            log.debug("Skipping job={} node={} lease held elsewhere", jobName, nodeId);
+            return;
+        }
+
+        long renewEveryMs = Math.max(leaseTtl.toMillis() / 3, 1);
+        ScheduledFuture<?> renewal = renewals.scheduleAtFixedRate(() -> renew(lease),
+                renewEveryMs, renewEveryMs, TimeUnit.MILLISECONDS);
+        JobRun run = jobRunRepository.save(JobRun.builder()
+                .jobName(jobName)
+                .owner(nodeId)
+                .startedAt(Instant.now())
+                .status(JobRunStatus.RUNNING)
+                .build());
+        try {
+            job.accept(lease);
+            finish(run, JobRunStatus.SUCCEEDED, null);
+        } catch (RuntimeException ex) {
+            log.error("Job failed job={} node={}", jobName, nodeId, ex);
+            finish(run, JobRunStatus.FAILED, ex.getMessage());
+        } finally {
+            renewal.cancel(false);
+            jobLeaseRepository.release(jobName, nodeId);
+        }
+    }
+
+    // This node only tracks how long its lease lasts, on the monotonic clock, counted from before the
+    // statement that set it; the database may have set it a little later, never earlier.
+    private Lease acquire(String jobName) {
+        long requestedAt = System.nanoTime();
+        boolean acquired = jobLeaseRepository.insertIfAbsent(jobName, nodeId, leaseTtl.toMillis()) == 1
+                || jobLeaseRepository.takeOver(jobName, nodeId, leaseTtl.toMillis()) == 1;
+        return acquired ? new Lease(jobName, requestedAt + leaseTtl.toNanos()) : null;
+    }
+
+    private void renew(Lease lease) {
+        if (lease.lost) {
+            return;
+        }
+        long requestedAt = System.nanoTime();
+        try {
+            if (jobLeaseRepository.renew(lease.jobName, nodeId, leaseTtl.toMillis()) == 1) {
+                lease.expiresAtNanos = requestedAt + leaseTtl.toNanos();
+                return;
+            }
+            log.warn("Lost lease, stopping job={} node={}", lease.jobName, nodeId);
+            lease.lost = true;
+        } catch (RuntimeException ex) {
+            // The lease is still ours until it expires, so a failed renewal only stops the job after that.
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(lease.expiresAtNanos - System.nanoTime());
+            if (remainingMs > 0) {
+                log.warn("Lease renewal failed job={} node={} remainingMs={}",
+                        lease.jobName, nodeId, remainingMs, ex);
+                return;
+            }
+            log.warn("Lease expired without renewal, stopping job={} node={}", lease.jobName, nodeId, ex);
+            lease.lost = true;
+        }
+    }
+
+    private void finish(JobRun run, JobRunStatus status, String message) {
+        run.setStatus(status);
+        run.setFinishedAt(Instant.now());
+        if (message != null && message.length() > MESSAGE_LENGTH) {
+            message = message.substring(0, MESSAGE_LENGTH);
+        }
+        run.setMessage(message);
+        jobRunRepository.save(run);
+    }
+
+    private static String generateNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException ex) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * The lease a running job holds. Jobs made of several steps call {@link #ensureHeld()} between them, so
+     * a node that lost the lease stops instead of running alongside the node that took it over.
+     */
+    public static final class Lease {
+
+        private final String jobName;
+        private volatile long expiresAtNanos;
+        private volatile boolean lost;
+
+        private Lease(String jobName, long expiresAtNanos) {
+            this.jobName = jobName;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        public boolean isLost() {
+            return lost;
+        }
+
+        public void ensureHeld() {
+            if (lost) {
+                throw new IllegalStateException("Lost lease for job " + jobName);
+            }
+        }
+    }
+}
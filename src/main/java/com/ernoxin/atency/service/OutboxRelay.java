@@ -0,0 +1,88 @@
+package com.ernoxin.atency.service;
+
+import com.ernoxin.atency.dto.AttendanceChangeDto;
+import com.ernoxin.atency.entity.AttendanceOutboxMessage;
+import com.ernoxin.atency.outbox.ChangeEventSink;
+import com.ernoxin.atency.repository.AttendanceOutboxRepository;
+import com.ernoxin.atency.util.WorkedTimeFormatter;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Publishes outbox messages to the configured {@link ChangeEventSink}. A batch is numbered in a transaction
+ * of its own that commits before the sink sees it, so a sink failure leaves the batch unpublished but
+ * numbered, and the next attempt sends the same messages under the same positions before anything newer.
+ * Only one node relays at a time; the others skip the round instead of waiting.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final AttendanceOutboxRepository outboxRepository;
+    private final ChangeEventSink changeEventSink;
+
+    @Value("${app.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.outbox.retention:7d}")
+    private Duration retention;
+
+    // Returns whether a full batch went out, i.e. whether more messages may be waiting.
+    @Transactional
+    public boolean publishBatch() {
+        if (!outboxRepository.tryLockRelay()) {
+            return false;
+        }
+        List<AttendanceOutboxMessage> batch = findNumberedBatch();
+        if (batch.isEmpty() && outboxRepository.assignPositions(batchSize) > 0) {
+            batch = findNumberedBatch();
+        }
+        if (batch.isEmpty()) {
+            return false;
+        }
+
+        Instant now = Instant.now();
+        for (AttendanceOutboxMessage message : batch) {
+            message.setPublishedAt(now);
+        }
+        changeEventSink.publish(batch.stream().map(OutboxRelay::toDto).toList());
+        log.debug("outboxPublished messages={} lastPosition={}", batch.size(), batch.getLast().getPosition());
+        return batch.size() == batchSize;
+    }
+
+    private List<AttendanceOutboxMessage> findNumberedBatch() {
+        return outboxRepository.findAllByPositionIsNotNullAndPublishedAtIsNullOrderByPosition(Limit.of(batchSize));
+    }
+
+    @Transactional
+    public void purge() {
+        int deleted = outboxRepository.deleteAllByPublishedAtBefore(Instant.now().minus(retention));
+        log.info("Outbox purge completed deleted={} retention={}", deleted, retention);
+    }
+
+    public static AttendanceChangeDto toDto(AttendanceOutboxMessage message) {
+        return AttendanceChangeDto.builder()
+                .position(message.getPosition())
+                .type(message.getType())
+                .occurredAt(message.getOccurredAt())
+                .id(message.getAttendanceId())
+                .userId(message.getUserId())
+                .date(message.getDate())
+                .checkInTime(message.getCheckInTime())
+                .checkOutTime(message.getCheckOutTime())
+                .workedHours(WorkedTimeFormatter.format(message.getWorkedSeconds()))
+                .status(message.getStatus())
+                .build();
+    }
+}
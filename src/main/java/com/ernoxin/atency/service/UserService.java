@@ -0,0 +1,9 @@
+package com.ernoxin.atency.service;
+
+import com.ernoxin.atency.dto.UserSearchResultDto;
+
+import java.util.List;
+
+public interface UserService {
+    List<UserSearchResultDto> searchUsers(String query, int limit);
+}
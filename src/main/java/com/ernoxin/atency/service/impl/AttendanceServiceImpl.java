@@ -1,205 +1,531 @@
 package com.ernoxin.atency.service.impl;
 
+import com.ernoxin.atency.dto.AttendanceChangeDto;
+import com.ernoxin.atency.dto.AttendanceChangesDto;
+import com.ernoxin.atency.dto.AttendanceColumnsDto;
+import com.ernoxin.atency.dto.AttendanceCorrectionRequest;
+import com.ernoxin.atency.dto.AttendanceEventDto;
+import com.ernoxin.atency.dto.AttendancePageDto;
 import com.ernoxin.atency.dto.AttendanceRecordDto;
+import com.ernoxin.atency.dto.AttendanceSearchPageDto;
 import com.ernoxin.atency.dto.AttendanceSummaryDto;
+import com.ernoxin.atency.entity.AbsenceJobCheckpoint;
 import com.ernoxin.atency.entity.Attendance;
+import com.ernoxin.atency.entity.AttendanceEvent;
+import com.ernoxin.atency.entity.AttendanceEventType;
 import com.ernoxin.atency.entity.AttendanceStatus;
+import com.ernoxin.atency.entity.AttendanceSummary;
 import com.ernoxin.atency.entity.User;
 import com.ernoxin.atency.exception.BadRequestException;
 import com.ernoxin.atency.exception.ResourceNotFoundException;
+import com.ernoxin.atency.jfr.CheckInEvent;
+import com.ernoxin.atency.jfr.CheckOutEvent;
+import com.ernoxin.atency.jfr.SummaryEvent;
+import com.ernoxin.atency.logging.RequestProfile;
+import com.ernoxin.atency.repository.AbsenceJobCheckpointRepository;
+import com.ernoxin.atency.repository.AttendanceEventRepository;
+import com.ernoxin.atency.repository.AttendanceOutboxRepository;
 import com.ernoxin.atency.repository.AttendanceRepository;
+import com.ernoxin.atency.repository.AttendanceSearchRepository;
+import com.ernoxin.atency.repository.AttendanceSummaryRepository;
 import com.ernoxin.atency.repository.UserRepository;
+import com.ernoxin.atency.service.AbsenceMode;
+import com.ernoxin.atency.service.AttendanceProjector;
 import com.ernoxin.atency.service.AttendanceService;
-import com.ernoxin.atency.util.WorkingDayUtil;
+import com.ernoxin.atency.service.CalendarService;
+import com.ernoxin.atency.service.OutboxRelay;
+import com.ernoxin.atency.util.AttendanceRecordMapper;
+import com.ernoxin.atency.util.SearchPatterns;
+import com.ernoxin.atency.util.WorkedTimeFormatter;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class AttendanceServiceImpl implements AttendanceService {
 
+    private static final int MAX_PAGE_SIZE = 366;
+    private static final int MAX_CHANGES_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+    private static final BadRequestException CHECK_IN_ON_DAY_OFF =
+            new BadRequestException("Check-in is allowed only on working days");
+    private static final BadRequestException CHECK_OUT_ON_DAY_OFF =
+            new BadRequestException("Check-out is allowed only on working days");
+    private static final ResourceNotFoundException USER_NOT_FOUND =
+            new ResourceNotFoundException("User does not exist.");
+
     private final AttendanceRepository attendanceRepository;
+    private final AttendanceEventRepository eventRepository;
+    private final AttendanceOutboxRepository outboxRepository;
+    private final AttendanceSummaryRepository summaryRepository;
+    private final AttendanceProjector attendanceProjector;
     private final UserRepository userRepository;
+    private final AbsenceJobCheckpointRepository checkpointRepository;
+    private final CalendarService calendarService;
+    private final EntityManager entityManager;
+
+    @Value("${app.attendance.absence-mode:MATERIALIZED}")
+    private AbsenceMode absenceMode;
+
+    @Value("${app.attendance.stream-max-duration:2m}")
+    private Duration streamMaxDuration;
 
     @Override
     @Transactional
     public AttendanceRecordDto checkIn(String username) {
-        User user = getUserByUsername(username);
-        LocalDate today = LocalDate.now();
-        if (!WorkingDayUtil.isWorkingDay(today)) {
-            throw new BadRequestException("Check-in is allowed only on working days");
-        }
-
-        Attendance attendance = attendanceRepository.findByUserAndDate(user, today)
-                .orElseGet(() -> Attendance.builder()
-                        .user(user)
-                        .date(today)
-                        .status(AttendanceStatus.PRESENT)
-                        .workedHours(Duration.ZERO)
-                        .build());
-
-        if (attendance.getCheckInTime() != null) {
-            throw new BadRequestException("You have already checked in today");
-        }
+        CheckInEvent event = CheckInEvent.start();
+        try {
+            // Cached years are reloaded in place, so this rejection takes no connection; only the first read of a
+            // year, or the first after an override changed it, goes to the database.
+            LocalDate today = LocalDate.now();
+            if (!calendarService.isWorkingDay(today)) {
+                throw CHECK_IN_ON_DAY_OFF;
+            }
+            User user = getUserByUsername(username);
+            event.setUserId(user.getId());
 
-        attendance.setCheckInTime(LocalTime.now());
-        attendance.setStatus(AttendanceStatus.PRESENT);
-        if (attendance.getWorkedHours() == null) {
-            attendance.setWorkedHours(Duration.ZERO);
+            // time columns keep whole seconds; letting Postgres round up would put check-in after a same-second check-out
+            Attendance attendance = attendanceProjector.append(user, AttendanceEvent.builder()
+                    .date(today)
+                    .type(AttendanceEventType.CHECK_IN)
+                    .checkInTime(LocalTime.now().truncatedTo(ChronoUnit.SECONDS))
+                    .recordedBy(username)
+                    .build());
+            event.setSuccess(true);
+            return AttendanceRecordMapper.toDto(attendance, false);
+        } finally {
+            event.finish();
         }
-
-        Attendance saved = attendanceRepository.save(attendance);
-        return toDto(saved, false);
     }
 
     @Override
     @Transactional
     public AttendanceRecordDto checkOut(String username) {
-        User user = getUserByUsername(username);
-        LocalDate today = LocalDate.now();
-        if (!WorkingDayUtil.isWorkingDay(today)) {
-            throw new BadRequestException("Check-out is allowed only on working days");
+        CheckOutEvent event = CheckOutEvent.start();
+        try {
+            LocalDate today = LocalDate.now();
+            if (!calendarService.isWorkingDay(today)) {
+                throw CHECK_OUT_ON_DAY_OFF;
+            }
+            User user = getUserByUsername(username);
+            event.setUserId(user.getId());
+
+            Attendance attendance = attendanceProjector.append(user, AttendanceEvent.builder()
+                    .date(today)
+                    .type(AttendanceEventType.CHECK_OUT)
+                    .checkOutTime(LocalTime.now().truncatedTo(ChronoUnit.SECONDS))
+                    .recordedBy(username)
+                    .build());
+            event.setSuccess(true);
+            return AttendanceRecordMapper.toDto(attendance, false);
+        } finally {
+            event.finish();
         }
+    }
 
-        Attendance attendance = attendanceRepository.findByUserAndDate(user, today)
-                .orElseThrow(() -> new BadRequestException("Check-in is required before check-out"));
+    @Override
+    @Transactional(readOnly = true)
+    public List<AttendanceRecordDto> getMyRecords(String username) {
+        User user = getUserByUsername(username);
+        return attendanceRepository.findAllByUserIdOrderByDateDesc(user.getId())
+                .stream()
+                .map(attendance -> AttendanceRecordMapper.toDto(attendance, false))
+                .toList();
+    }
 
-        if (attendance.getCheckInTime() == null) {
-            throw new BadRequestException("Check-in is required before check-out");
+    @Override
+    @Transactional(readOnly = true)
+    public AttendancePageDto getMyRecords(String username, LocalDate from, LocalDate to, LocalDate cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_PAGE_SIZE);
         }
-
-        if (attendance.getCheckOutTime() != null) {
-            throw new BadRequestException("You have already checked out today");
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("From date must not be after to date");
         }
 
-        LocalTime now = LocalTime.now();
-        if (now.isBefore(attendance.getCheckInTime())) {
-            throw new BadRequestException("Check-out time must be after check-in time");
+        User user = getUserByUsername(username);
+        LocalDate upper = to == null ? LocalDate.now() : to;
+        if (cursor != null && !cursor.isAfter(upper)) {
+            upper = cursor.minusDays(1);
         }
 
-        Duration worked = Duration.between(attendance.getCheckInTime(), now);
-        attendance.setCheckOutTime(now);
-        attendance.setWorkedHours(worked);
-        attendance.setStatus(AttendanceStatus.PRESENT);
+        // One extra row tells us whether another page exists without a count query.
+        Limit window = Limit.of(limit + 1);
+        List<Attendance> rows = from == null
+                ? attendanceRepository.findAllByUserAndDateLessThanEqualOrderByDateDesc(user, upper, window)
+                : attendanceRepository.findAllByUserAndDateBetweenOrderByDateDesc(user, from, upper, window);
+
+        boolean hasMore = rows.size() > limit;
+        List<AttendanceRecordDto> records = rows.stream()
+                .limit(limit)
+                .map(attendance -> AttendanceRecordMapper.toDto(attendance, false))
+                .toList();
 
-        Attendance saved = attendanceRepository.save(attendance);
-        return toDto(saved, false);
+        return AttendancePageDto.builder()
+                .records(records)
+                .nextCursor(hasMore ? records.get(records.size() - 1).getDate() : null)
+                .build();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AttendanceRecordDto> getMyRecords(String username) {
-        User user = getUserByUsername(username);
-        return attendanceRepository.findAllByUserOrderByDateDesc(user)
-                .stream()
-                .map(attendance -> toDto(attendance, false))
-                .toList();
+    public AttendanceSummaryDto getMySummary(String username) {
+        return summarize(getUserByUsername(username));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public AttendanceSummaryDto getMySummary(String username) {
-        User user = getUserByUsername(username);
-        List<Attendance> records = attendanceRepository.findAllByUserOrderByDateDesc(user);
+    public AttendanceSummaryDto getSummaryByUserId(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> USER_NOT_FOUND);
+        return summarize(user);
+    }
 
-        long presentDays = records.stream()
-                .filter(attendance -> attendance.getStatus() == AttendanceStatus.PRESENT)
-                .count();
-        long absentDays = records.stream()
-                .filter(attendance -> attendance.getStatus() == AttendanceStatus.ABSENT)
-                .count();
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllRecords(Consumer<AttendanceRecordDto> sink) {
+        try (Stream<Attendance> records = attendanceRepository.streamAllByOrderByDateDesc()) {
+            emitAll(records, sink);
+        }
+    }
 
-        Duration totalWorked = records.stream()
-                .filter(attendance -> attendance.getStatus() == AttendanceStatus.PRESENT)
-                .map(Attendance::getWorkedHours)
-                .filter(duration -> duration != null)
-                .reduce(Duration.ZERO, Duration::plus);
+    @Override
+    @Transactional(readOnly = true)
+    public void streamRecordsByUserId(Long userId, Consumer<AttendanceRecordDto> sink) {
+        userRepository.findById(userId)
+                .orElseThrow(() -> USER_NOT_FOUND);
+        try (Stream<Attendance> records = attendanceRepository.streamAllByUserIdOrderByDateDesc(userId)) {
+            emitAll(records, sink);
+        }
+    }
 
-        return AttendanceSummaryDto.builder()
-                .totalWorkedHours(formatDuration(totalWorked))
-                .presentDays(presentDays)
-                .absentDays(absentDays)
-                .build();
+    @Override
+    @Transactional(readOnly = true)
+    public AttendanceColumnsDto getAllRecordsColumnar() {
+        return toColumns(attendanceRepository.findAllByOrderByDateDesc());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AttendanceRecordDto> getAllRecords() {
-        return attendanceRepository.findAllByOrderByDateDesc()
+    public AttendanceColumnsDto getRecordsByUserIdColumnar(Long userId) {
+        userRepository.findById(userId)
+                .orElseThrow(() -> USER_NOT_FOUND);
+        return toColumns(attendanceRepository.findAllByUserIdOrderByDateDesc(userId));
+    }
+
+    @Override
+    @Transactional
+    public void markAbsentForDate(LocalDate date) {
+        if (!calendarService.isWorkingDay(date)) {
+            return;
+        }
+
+        Long minId = userRepository.findMinId();
+        Long maxId = userRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            return;
+        }
+        attendanceProjector.appendAbsences(date, minId, maxId);
+    }
+
+    @Override
+    @Transactional
+    public int markAbsentForShard(LocalDate date, long fromUserId, long toUserId) {
+        int inserted = calendarService.isWorkingDay(date)
+                ? attendanceProjector.appendAbsences(date, fromUserId, toUserId)
+                : 0;
+        checkpointRepository.save(AbsenceJobCheckpoint.builder()
+                .date(date)
+                .shardStart(fromUserId)
+                .shardEnd(toUserId)
+                .inserted(inserted)
+                .completedAt(Instant.now())
+                .build());
+        return inserted;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AttendanceRecordDto> getPresentNow() {
+        return attendanceRepository
+                .findAllByDateAndCheckInTimeIsNotNullAndCheckOutTimeIsNullOrderByCheckInTime(LocalDate.now())
                 .stream()
-                .map(attendance -> toDto(attendance, true))
+                .map(attendance -> AttendanceRecordMapper.toDto(attendance, true))
                 .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AttendanceRecordDto> getRecordsByUserId(Long userId) {
+    public List<AttendanceEventDto> getEventsByUserId(Long userId) {
         userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User does not exist."));
-        return attendanceRepository.findAllByUserIdOrderByDateDesc(userId)
-                .stream()
-                .map(attendance -> toDto(attendance, true))
+                .orElseThrow(() -> USER_NOT_FOUND);
+        return eventRepository.findAllByUserIdOrderByVersionDesc(userId).stream()
+                .map(this::toDto)
                 .toList();
     }
 
     @Override
     @Transactional
-    public void markAbsentForDate(LocalDate date) {
-        if (!WorkingDayUtil.isWorkingDay(date)) {
-            return;
+    public AttendanceRecordDto correct(Long userId, AttendanceCorrectionRequest request, String recordedBy) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> USER_NOT_FOUND);
+        if (request.getDate().isAfter(LocalDate.now())) {
+            throw new BadRequestException("Corrections cannot be made for future dates");
+        }
+        if (request.getStatus() == AttendanceStatus.ABSENT
+                && (request.getCheckInTime() != null || request.getCheckOutTime() != null)) {
+            throw new BadRequestException("Absent days cannot have check-in or check-out times");
+        }
+        if (request.getStatus() == AttendanceStatus.PRESENT && request.getCheckInTime() == null) {
+            throw new BadRequestException("Present days require a check-in time");
+        }
+        if (request.getCheckOutTime() != null
+                && (request.getCheckInTime() == null || request.getCheckOutTime().isBefore(request.getCheckInTime()))) {
+            throw new BadRequestException("Check-out time must be after check-in time");
+        }
+
+        Attendance attendance = attendanceProjector.append(user, AttendanceEvent.builder()
+                .date(request.getDate())
+                .type(AttendanceEventType.CORRECTION)
+                .checkInTime(truncate(request.getCheckInTime()))
+                .checkOutTime(truncate(request.getCheckOutTime()))
+                .status(request.getStatus())
+                .recordedBy(recordedBy)
+                .build());
+        return AttendanceRecordMapper.toDto(attendance, true);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AttendanceChangesDto getChangesSince(Long cursor, int limit) {
+        if (limit < 1 || limit > MAX_CHANGES_PAGE_SIZE) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_CHANGES_PAGE_SIZE);
+        }
+        // Without a cursor a consumer learns where the log currently ends, then loads the full list once.
+        if (cursor == null) {
+            return AttendanceChangesDto.builder()
+                    .changes(List.of())
+                    .nextCursor(outboxRepository.findMaxPosition())
+                    .build();
+        }
+        if (cursor < 0) {
+            throw new BadRequestException("Cursor must not be negative");
+        }
+        Long oldest = outboxRepository.findMinPosition();
+        if (oldest != null && cursor < oldest - 1) {
+            throw new BadRequestException("Cursor has expired; reload the full list and continue from a new cursor");
+        }
+
+        List<AttendanceChangeDto> changes = outboxRepository
+                .findAllByPositionGreaterThanOrderByPosition(cursor, Limit.of(limit))
+                .stream()
+                .map(OutboxRelay::toDto)
+                .toList();
+        return AttendanceChangesDto.builder()
+                .changes(changes)
+                .nextCursor(changes.isEmpty() ? cursor : changes.getLast().getPosition())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AttendanceSearchPageDto search(String query, LocalDate from, LocalDate to, AttendanceStatus status,
+                                          String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("From date must not be after to date");
+        }
+        if (query != null && query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new BadRequestException("Query must not be longer than " + MAX_SEARCH_QUERY_LENGTH + " characters");
         }
 
-        List<User> users = userRepository.findAll();
-        for (User user : users) {
-            if (!attendanceRepository.existsByUserAndDate(user, date)) {
-                Attendance attendance = Attendance.builder()
-                        .user(user)
-                        .date(date)
-                        .status(AttendanceStatus.ABSENT)
-                        .workedHours(Duration.ZERO)
-                        .build();
-                attendanceRepository.save(attendance);
+        LocalDate beforeDate = null;
+        Long beforeId = null;
+        if (cursor != null) {
+            int separator = cursor.indexOf(':');
+            try {
+                beforeDate = LocalDate.parse(cursor.substring(0, Math.max(separator, 0)));
+                beforeId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (RuntimeException ex) {
+                throw new BadRequestException("Invalid cursor");
             }
         }
+
+        String pattern = query == null || query.isBlank() ? null : SearchPatterns.contains(query);
+        List<Attendance> rows = attendanceRepository.search(
+                new AttendanceSearchRepository.Filter(pattern, from, to, status, beforeDate, beforeId), limit + 1);
+
+        boolean hasMore = rows.size() > limit;
+        List<AttendanceRecordDto> records = rows.stream()
+                .limit(limit)
+                .map(attendance -> AttendanceRecordMapper.toDto(attendance, true))
+                .toList();
+        AttendanceRecordDto last = hasMore ? records.getLast() : null;
+        return AttendanceSearchPageDto.builder()
+                .records(records)
+                .nextCursor(last == null ? null : last.getDate() + ":" + last.getId())
+                .build();
+    }
+
+    private AttendanceSummaryDto summarize(User user) {
+        SummaryEvent event = SummaryEvent.start();
+        try {
+            AttendanceSummary totals = summaryRepository.findById(user.getId())
+                    .orElseGet(() -> AttendanceSummary.builder().userId(user.getId()).build());
+            long absentDays = absenceMode == AbsenceMode.DERIVED
+                    ? derivedAbsentDays(user)
+                    : totals.getAbsentDays();
+            event.setPresentDays(totals.getPresentDays());
+            event.setAbsentDays(absentDays);
+
+            return AttendanceSummaryDto.builder()
+                    .totalWorkedHours(WorkedTimeFormatter.format(totals.getWorkedSeconds()))
+                    .presentDays(totals.getPresentDays())
+                    .absentDays(absentDays)
+                    .build();
+        } finally {
+            event.setUserId(user.getId());
+            event.setAbsenceMode(absenceMode.name());
+            event.finish();
+        }
+    }
+
+    // Working days from the user's start up to yesterday, minus the ones they were present on.
+    private long derivedAbsentDays(User user) {
+        LocalDate from = user.getRegisteredOn() != null
+                ? user.getRegisteredOn()
+                : attendanceRepository.findFirstDateByUser(user);
+        LocalDate to = LocalDate.now().minusDays(1);
+        if (from == null || from.isAfter(to)) {
+            return 0;
+        }
+        long presentWorkingDays = attendanceRepository
+                .findDatesByUserAndStatusAndDateBetween(user, AttendanceStatus.PRESENT, from, to)
+                .stream()
+                .filter(calendarService::isWorkingDay)
+                .count();
+        return Math.max(calendarService.countWorkingDays(from, to) - presentWorkingDays, 0);
     }
 
     private User getUserByUsername(String username) {
         return userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User does not exist."));
+                .orElseThrow(() -> USER_NOT_FOUND);
+    }
+
+    private static LocalTime truncate(LocalTime time) {
+        return time == null ? null : time.truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    // Rows are fetched only as fast as the client reads them, and the transaction keeps its reporting connection
+    // until the last one is written. The query timeout does not cover that wait, so a stream that runs past
+    // app.attendance.stream-max-duration is cut off and the client gets a truncated response.
+    private void emitAll(Stream<Attendance> records, Consumer<AttendanceRecordDto> sink) {
+        long deadline = System.nanoTime() + streamMaxDuration.toNanos();
+        records.forEach(attendance -> {
+            if (System.nanoTime() - deadline > 0) {
+                throw new QueryTimeoutException("Stream exceeded " + streamMaxDuration);
+            }
+            emit(attendance, sink);
+        });
     }
 
-    private AttendanceRecordDto toDto(Attendance attendance, boolean includeUser) {
-        AttendanceRecordDto.AttendanceRecordDtoBuilder builder = AttendanceRecordDto.builder()
-                .id(attendance.getId())
-                .date(attendance.getDate())
-                .checkInTime(attendance.getCheckInTime())
-                .checkOutTime(attendance.getCheckOutTime())
-                .workedHours(formatDuration(attendance.getWorkedHours()))
-                .status(attendance.getStatus());
+    private void emit(Attendance attendance, Consumer<AttendanceRecordDto> sink) {
+        sink.accept(AttendanceRecordMapper.toDto(attendance, true));
+        // Detach each row once written so the persistence context does not grow with the result.
+        entityManager.detach(attendance);
+    }
 
-        if (includeUser && attendance.getUser() != null) {
-            builder
-                    .userId(attendance.getUser().getId())
-                    .username(attendance.getUser().getUsername())
-                    .fullName(attendance.getUser().getFullName());
+    private AttendanceEventDto toDto(AttendanceEvent event) {
+        RequestProfile.enter(RequestProfile.Phase.MAPPING);
+        try {
+            return AttendanceEventDto.builder()
+                    .id(event.getId())
+                    .version(event.getVersion())
+                    .date(event.getDate())
+                    .type(event.getType())
+                    .checkInTime(event.getCheckInTime())
+                    .checkOutTime(event.getCheckOutTime())
+                    .status(event.getStatus())
+                    .recordedAt(event.getRecordedAt())
+                    .recordedBy(event.getRecordedBy())
+                    .build();
+        } finally {
+            RequestProfile.exit();
         }
+    }
 
-        return builder.build();
+    private AttendanceColumnsDto toColumns(List<Attendance> records) {
+        RequestProfile.enter(RequestProfile.Phase.MAPPING);
+        try {
+            return buildColumns(records);
+        } finally {
+            RequestProfile.exit();
+        }
     }
 
-    private String formatDuration(Duration duration) {
-        if (duration == null) {
-            return "00:00";
+    private AttendanceColumnsDto buildColumns(List<Attendance> records) {
+        int size = records.size();
+        int[] userRefs = new int[size];
+        long[] ids = new long[size];
+        long[] dates = new long[size];
+        int[] checkIns = new int[size];
+        int[] checkOuts = new int[size];
+        long[] worked = new long[size];
+        List<AttendanceStatus> statuses = new ArrayList<>(size);
+        List<AttendanceColumnsDto.UserEntry> users = new ArrayList<>();
+        Map<Long, Integer> userIndex = new HashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            Attendance attendance = records.get(i);
+            User user = attendance.getUser();
+            userRefs[i] = userIndex.computeIfAbsent(user.getId(), id -> {
+                users.add(AttendanceColumnsDto.UserEntry.builder()
+                        .id(id)
+                        .username(user.getUsername())
+                        .fullName(user.getFullName())
+                        .build());
+                return users.size() - 1;
+            });
+            ids[i] = attendance.getId();
+            dates[i] = attendance.getDate().toEpochDay();
+            checkIns[i] = secondOfDay(attendance.getCheckInTime());
+            checkOuts[i] = secondOfDay(attendance.getCheckOutTime());
+            worked[i] = attendance.getWorkedSeconds();
+            statuses.add(attendance.getStatus());
         }
-        long totalMinutes = duration.toMinutes();
-        long hours = totalMinutes / 60;
-        long minutes = totalMinutes % 60;
-        return String.format("%02d:%02d", hours, minutes);
+
+        return AttendanceColumnsDto.builder()
+                .users(users)
+                .userRefs(userRefs)
+                .ids(ids)
+                .dates(dates)
+                .checkInSeconds(checkIns)
+                .checkOutSeconds(checkOuts)
+                .workedSeconds(worked)
+                .statuses(statuses)
+                .build();
+    }
+
+    private int secondOfDay(LocalTime time) {
+        return time == null ? -1 : time.toSecondOfDay();
     }
 }
@@ -0,0 +1,155 @@
+package com.ernoxin.atency.service.impl;
+
+import com.ernoxin.atency.dto.CalendarOverrideDto;
+import com.ernoxin.atency.dto.CalendarOverrideRequest;
+import com.ernoxin.atency.entity.CalendarOverride;
+import com.ernoxin.atency.exception.ResourceNotFoundException;
+import com.ernoxin.atency.repository.CalendarOverrideRepository;
+import com.ernoxin.atency.service.CalendarService;
+import com.ernoxin.atency.util.WorkingDaySet;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class CalendarServiceImpl implements CalendarService {
+
+    private static final int MAX_LOOKBACK_DAYS = 3660;
+
+    private final CalendarOverrideRepository overrideRepository;
+    private final Map<Integer, WorkingDaySet> years = new ConcurrentHashMap<>();
+
+    @Value("${app.calendar.working-days:SATURDAY,SUNDAY,MONDAY,TUESDAY,WEDNESDAY}")
+    private Set<DayOfWeek> configuredWorkingDays;
+
+    @Value("${app.calendar.cached-years:20}")
+    private int cachedYears;
+
+    private Set<DayOfWeek> weeklyPattern;
+
+    @PostConstruct
+    void init() {
+        this.weeklyPattern = EnumSet.copyOf(configuredWorkingDays);
+    }
+
+    // Overrides edited on another node reach this one at the latest after one refresh interval. Years are
+    // reloaded in place rather than cleared, so requests keep reading the calendar from memory; a year evicted
+    // while it reloads stays evicted, since the eviction waits for the reload. Years that have left the cached
+    // window since the last refresh are dropped.
+    @Scheduled(fixedDelayString = "${app.calendar.refresh-interval-ms:600000}")
+    public void refresh() {
+        years.keySet().removeIf(year -> !isCached(year));
+        for (Integer year : years.keySet()) {
+            years.computeIfPresent(year, (y, days) -> loadYear(y));
+        }
+    }
+
+    @Override
+    public boolean isWorkingDay(LocalDate date) {
+        return year(date.getYear()).contains(date);
+    }
+
+    @Override
+    public LocalDate previousWorkingDay(LocalDate date) {
+        LocalDate cursor = date.minusDays(1);
+        for (int i = 0; i < MAX_LOOKBACK_DAYS; i++, cursor = cursor.minusDays(1)) {
+            if (isWorkingDay(cursor)) {
+                return cursor;
+            }
+        }
+        throw new IllegalStateException("No working day found before " + date);
+    }
+
+    @Override
+    public int countWorkingDays(LocalDate from, LocalDate to) {
+        int count = 0;
+        for (int y = from.getYear(); y <= to.getYear(); y++) {
+            LocalDate start = y == from.getYear() ? from : LocalDate.of(y, 1, 1);
+            LocalDate end = y == to.getYear() ? to : LocalDate.of(y, 12, 31);
+            count += year(y).count(start, end);
+        }
+        return count;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CalendarOverrideDto> getOverrides(int year) {
+        return overrideRepository.findAllByDateBetweenOrderByDateAsc(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))
+                .stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public CalendarOverrideDto saveOverride(CalendarOverrideRequest request) {
+        CalendarOverride override = overrideRepository.findByDate(request.getDate())
+                .orElseGet(() -> CalendarOverride.builder().date(request.getDate()).build());
+        override.setWorking(request.getWorking());
+        override.setDescription(request.getDescription());
+        CalendarOverride saved = overrideRepository.save(override);
+        evictAfterCommit(saved.getDate().getYear());
+        return toDto(saved);
+    }
+
+    @Override
+    @Transactional
+    public void deleteOverride(LocalDate date) {
+        CalendarOverride override = overrideRepository.findByDate(date)
+                .orElseThrow(() -> new ResourceNotFoundException("Calendar override does not exist."));
+        overrideRepository.delete(override);
+        evictAfterCommit(date.getYear());
+    }
+
+    // Evicting before the commit would let a concurrent read load the old overrides back into the cache.
+    private void evictAfterCommit(int year) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                years.remove(year);
+            }
+        });
+    }
+
+    // Only the last app.calendar.cached-years and the next year are kept, so a request over a wide range does
+    // not leave every year it touched in memory; other years are loaded for the call and dropped.
+    private WorkingDaySet year(int year) {
+        return isCached(year) ? years.computeIfAbsent(year, this::loadYear) : loadYear(year);
+    }
+
+    private boolean isCached(int year) {
+        int current = LocalDate.now().getYear();
+        return year >= current - cachedYears && year <= current + 1;
+    }
+
+    private WorkingDaySet loadYear(int year) {
+        Map<LocalDate, Boolean> overrides = overrideRepository
+                .findAllByDateBetweenOrderByDateAsc(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))
+                .stream()
+                .collect(Collectors.toMap(CalendarOverride::getDate, CalendarOverride::isWorking));
+        return WorkingDaySet.of(year, weeklyPattern, overrides);
+    }
+
+    private CalendarOverrideDto toDto(CalendarOverride override) {
+        return CalendarOverrideDto.builder()
+                .date(override.getDate())
+                .working(override.isWorking())
+                .description(override.getDescription())
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.ernoxin.atency.service.impl;
+
+import com.ernoxin.atency.dto.UserSearchResultDto;
+import com.ernoxin.atency.entity.User;
+import com.ernoxin.atency.exception.BadRequestException;
+import com.ernoxin.atency.repository.UserRepository;
+import com.ernoxin.atency.service.UserService;
+import com.ernoxin.atency.util.SearchPatterns;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class UserServiceImpl implements UserService {
+
+    private static final int MAX_RESULTS = 100;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final UserRepository userRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserSearchResultDto> searchUsers(String query, int limit) {
+        if (limit < 1 || limit > MAX_RESULTS) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_RESULTS);
+        }
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("Query must be between 1 and " + MAX_QUERY_LENGTH + " characters");
+        }
+
+        return userRepository.search(SearchPatterns.contains(query), SearchPatterns.startsWith(query), Limit.of(limit))
+                .stream()
+                .map(UserServiceImpl::toDto)
+                .toList();
+    }
+
+    private static UserSearchResultDto toDto(User user) {
+        return UserSearchResultDto.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .fullName(user.getFullName())
+                .role(user.getRole())
+                .registeredOn(user.getRegisteredOn())
+                .build();
+    }
+}
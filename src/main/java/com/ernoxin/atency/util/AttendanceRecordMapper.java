@@ -0,0 +1,39 @@
+package com.ernoxin.atency.util;
+
+import com.ernoxin.atency.dto.AttendanceRecordDto;
+import com.ernoxin.atency.entity.Attendance;
+import com.ernoxin.atency.logging.RequestProfile;
+
+/**
+ * Maps daily attendance rows to the records every read endpoint returns. The time spent is counted as the
+ * mapping phase of the request profile.
+ */
+public final class AttendanceRecordMapper {
+
+    private AttendanceRecordMapper() {
+    }
+
+    public static AttendanceRecordDto toDto(Attendance attendance, boolean includeUser) {
+        RequestProfile.enter(RequestProfile.Phase.MAPPING);
+        try {
+            AttendanceRecordDto.AttendanceRecordDtoBuilder builder = AttendanceRecordDto.builder()
+                    .id(attendance.getId())
+                    .date(attendance.getDate())
+                    .checkInTime(attendance.getCheckInTime())
+                    .checkOutTime(attendance.getCheckOutTime())
+                    .workedHours(WorkedTimeFormatter.format(attendance.getWorkedSeconds()))
+                    .status(attendance.getStatus());
+
+            if (includeUser && attendance.getUser() != null) {
+                builder
+                        .userId(attendance.getUser().getId())
+                        .username(attendance.getUser().getUsername())
+                        .fullName(attendance.getUser().getFullName());
+            }
+
+            return builder.build();
+        } finally {
+            RequestProfile.exit();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.ernoxin.atency.util;
+
+import com.ernoxin.atency.logging.ReferenceIdUtil;
+import com.ernoxin.atency.logging.RequestProfile;
+import com.ernoxin.atency.logging.ServerTimingAdvice;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Writes a {@code BaseResponse} envelope whose {@code result} is a JSON array, serializing each
+ * element as the source produces it instead of collecting the whole list first.
+ */
+@Component
+@RequiredArgsConstructor
+public class BaseResponseStreamWriter {
+
+    private final ObjectMapper objectMapper;
+    private final ServerTimingAdvice serverTimingAdvice;
+
+    public <T> void writeList(HttpServletResponse response, HttpStatus status,
+                              Consumer<Consumer<T>> source) throws IOException {
+        Envelope envelope = new Envelope(response, status);
+        source.accept(envelope::write);
+        envelope.finish();
+    }
+
+    private final class Envelope {
+        private final HttpServletResponse response;
+        private final HttpStatus status;
+        private final Instant timestamp = Instant.now();
+        private final String referenceId = ReferenceIdUtil.resolveOrGenerate();
+        private JsonGenerator generator;
+
+        private Envelope(HttpServletResponse response, HttpStatus status) {
+            this.response = response;
+            this.status = status;
+        }
+
+        // Nothing is written until the first element arrives, so a source that fails up front
+        // (for example an unknown user) still reaches the exception handlers uncommitted.
+        private void start() {
+            if (generator != null) {
+                return;
+            }
+            response.setStatus(status.value());
+            serverTimingAdvice.writeHeader(response);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            try {
+                generator = objectMapper.createGenerator(response.getOutputStream());
+            } catch (IOException ex) {
+                throw new IllegalStateException("Unable to open response stream", ex);
+            }
+            // Same property order as the regular BaseResponse output, which Jackson sorts alphabetically.
+            generator.writeStartObject();
+            generator.writeNumberProperty("code", status.value());
+            generator.writeStringProperty("referenceId", referenceId);
+            generator.writeName("result");
+            generator.writeStartArray();
+        }
+
+        private void write(Object element) {
+            start();
+            RequestProfile.enter(RequestProfile.Phase.SERIALIZATION);
+            try {
+                generator.writePOJO(element);
+            } finally {
+                RequestProfile.exit();
+            }
+        }
+
+        private void finish() {
+            start();
+            generator.writeEndArray();
+            generator.writeStringProperty("status", status.getReasonPhrase());
+            generator.writePOJOProperty("timestamp", timestamp);
+            generator.writeEndObject();
+            generator.close();
+        }
+    }
+}
@@ -1,26 +0,0 @@
-package com.ernoxin.atency.util;
-
-import jakarta.persistence.AttributeConverter;
-import jakarta.persistence.Converter;
-
-import java.time.Duration;
-
-@Converter(autoApply = false)
-public class DurationAttributeConverter implements AttributeConverter<Duration, Long> {
-
-    @Override
-    public Long convertToDatabaseColumn(Duration attribute) {
-        if (attribute == null) {
-            return 0L;
-        }
-        return attribute.getSeconds();
-    }
-
-    @Override
-    public Duration convertToEntityAttribute(Long dbData) {
-        if (dbData == null) {
-            return Duration.ZERO;
-        }
-        return Duration.ofSeconds(dbData);
-    }
-}
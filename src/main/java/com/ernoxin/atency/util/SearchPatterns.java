@@ -0,0 +1,34 @@
+package com.ernoxin.atency.util;
+
+import java.util.Locale;
+
+/**
+ * Turns user-typed search text into lower-case LIKE patterns, escaping {@code %}, {@code _} and {@code \}
+ * so they match literally.
+ */
+public final class SearchPatterns {
+
+    private SearchPatterns() {
+    }
+
+    public static String contains(String query) {
+        return "%" + escape(query) + "%";
+    }
+
+    public static String startsWith(String query) {
+        return escape(query) + "%";
+    }
+
+    private static String escape(String query) {
+        String lower = query.strip().toLowerCase(Locale.ROOT);
+        StringBuilder escaped = new StringBuilder(lower.length() + 4);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (c == '%' || c == '_' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
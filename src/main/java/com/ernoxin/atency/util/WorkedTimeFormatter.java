@@ -0,0 +1,47 @@
+package com.ernoxin.atency.util;
+
+/**
+ * Formats worked seconds as {@code HH:mm}. Values under a day come from a precomputed table, so
+ * formatting a daily record allocates nothing; longer totals are built from a single char array.
+ */
+public final class WorkedTimeFormatter {
+    private static final int CACHED_MINUTES = 24 * 60;
+    private static final String[] CACHE = new String[CACHED_MINUTES];
+
+    static {
+        for (int minutes = 0; minutes < CACHED_MINUTES; minutes++) {
+            CACHE[minutes] = build(minutes);
+        }
+    }
+
+    private WorkedTimeFormatter() {
+    }
+
+    public static String format(long seconds) {
+        long totalMinutes = Math.max(seconds, 0) / 60;
+        if (totalMinutes < CACHED_MINUTES) {
+            return CACHE[(int) totalMinutes];
+        }
+        return build(totalMinutes);
+    }
+
+    private static String build(long totalMinutes) {
+        long hours = totalMinutes / 60;
+        int minutes = (int) (totalMinutes % 60);
+
+        int hourDigits = 2;
+        for (long remaining = hours / 100; remaining > 0; remaining /= 10) {
+            hourDigits++;
+        }
+
+        char[] chars = new char[hourDigits + 3];
+        chars[hourDigits + 2] = (char) ('0' + minutes % 10);
+        chars[hourDigits + 1] = (char) ('0' + minutes / 10);
+        chars[hourDigits] = ':';
+        for (int i = hourDigits - 1; i >= 0; i--) {
+            chars[i] = (char) ('0' + hours % 10);
+            hours /= 10;
+        }
+        return new String(chars);
+    }
+}
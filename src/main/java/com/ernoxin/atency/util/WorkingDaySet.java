@@ -0,0 +1,62 @@
+package com.ernoxin.atency.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Working days of one calendar year as a bitset indexed by day of year (bit 0 is 1 January).
+ * Lookups are a single bit test and range counts are a handful of {@link Long#bitCount} calls.
+ */
+public final class WorkingDaySet {
+    private final int year;
+    private final long[] words;
+
+    private WorkingDaySet(int year, long[] words) {
+        this.year = year;
+        this.words = words;
+    }
+
+    public static WorkingDaySet of(int year, Set<DayOfWeek> weeklyPattern, Map<LocalDate, Boolean> overrides) {
+        int length = LocalDate.of(year, 12, 31).getDayOfYear();
+        long[] words = new long[(length + 63) / 64];
+        LocalDate date = LocalDate.of(year, 1, 1);
+        for (int index = 0; index < length; index++, date = date.plusDays(1)) {
+            boolean working = overrides.getOrDefault(date, weeklyPattern.contains(date.getDayOfWeek()));
+            if (working) {
+                words[index >>> 6] |= 1L << index;
+            }
+        }
+        return new WorkingDaySet(year, words);
+    }
+
+    public int year() {
+        return year;
+    }
+
+    public boolean contains(LocalDate date) {
+        int index = date.getDayOfYear() - 1;
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public int count(LocalDate from, LocalDate to) {
+        int first = from.getDayOfYear() - 1;
+        int last = to.getDayOfYear() - 1;
+        if (first > last) {
+            return 0;
+        }
+        int firstWord = first >>> 6;
+        int lastWord = last >>> 6;
+        long firstMask = -1L << first;
+        long lastMask = -1L >>> (63 - (last & 63));
+        if (firstWord == lastWord) {
+            return Long.bitCount(words[firstWord] & firstMask & lastMask);
+        }
+        int count = Long.bitCount(words[firstWord] & firstMask) + Long.bitCount(words[lastWord] & lastMask);
+        for (int word = firstWord + 1; word < lastWord; word++) {
+            count += Long.bitCount(words[word]);
+        }
+        return count;
+    }
+}
@@ -64,12 +64,24 @@
   const register = (payload) => request("/auth/register", { method: "POST", body: payload });
 
   const getSummary = () => request("/attendance/my-summary");
-  const getMyRecords = () => request("/attendance/my-records");
+  const toQuery = (params = {}) => {
+    const query = new URLSearchParams();
+    Object.entries(params).forEach(([key, value]) => {
+      if (value !== undefined && value !== null && value !== "") {
+        query.set(key, value);
+      }
+    });
+    const text = query.toString();
+    return text ? `?${text}` : "";
+  };
+
+  const getMyRecords = (params) => request(`/attendance/my-records${toQuery(params)}`);
   const checkIn = () => request("/attendance/check-in", { method: "POST", body: {} });
   const checkOut = () => request("/attendance/check-out", { method: "POST", body: {} });
 
   const getAllAttendance = () => request("/admin/attendance/all");
   const getAttendanceByUser = (userId) => request(`/admin/attendance/${userId}`);
+  const searchAttendance = (params) => request(`/admin/attendance/search${toQuery(params)}`);
 
   window.AtencyAPI = {
     request,
@@ -81,5 +93,6 @@
     checkOut,
     getAllAttendance,
     getAttendanceByUser,
+    searchAttendance,
   };
 })();
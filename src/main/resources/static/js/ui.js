@@ -6,6 +6,9 @@
   const qs = (selector, scope = document) => scope.querySelector(selector);
   const qsa = (selector, scope = document) => Array.from(scope.querySelectorAll(selector));
 
+  const HISTORY_PAGE_SIZE = 31;
+  const ADMIN_PAGE_SIZE = 50;
+
   const setButtonLoading = (button, isLoading) => {
     if (!button) return;
     button.classList.toggle("is-loading", isLoading);
@@ -234,8 +237,8 @@
       if (checkOutBtn) checkOutBtn.disabled = true;
 
       try {
-        const records = await api.getMyRecords();
-        const record = findTodayRecord(records || []);
+        const page = await api.getMyRecords({ limit: 1 });
+        const record = findTodayRecord(page?.records || []);
 
         if (!record) {
           setStatus("Absent", "No check-in yet.");
@@ -305,19 +308,9 @@
     });
   };
 
-  const renderHistoryTable = (records) => {
+  const appendHistoryRows = (records) => {
     const tableBody = qs("#historyTableBody");
-    const emptyEl = qs("#historyEmpty");
-
     if (!tableBody) return;
-    tableBody.innerHTML = "";
-
-    if (!records || !records.length) {
-      emptyEl?.classList.remove("hidden");
-      return;
-    }
-
-    emptyEl?.classList.add("hidden");
 
     records.forEach((record) => {
       const row = document.createElement("tr");
@@ -335,12 +328,47 @@
 
   const initHistoryPage = async () => {
     const messageEl = qs("#historyMessage");
+    const tableBody = qs("#historyTableBody");
+    const emptyEl = qs("#historyEmpty");
+    const sentinel = qs("#historySentinel");
 
-    try {
-      const records = await api.getMyRecords();
-      renderHistoryTable(records || []);
-    } catch (error) {
-      handleApiError(error, messageEl, "Unable to load attendance history.");
+    let cursor = null;
+    let loading = false;
+    let done = false;
+    let observer = null;
+
+    const loadMore = async () => {
+      if (loading || done) return;
+      loading = true;
+      try {
+        const page = await api.getMyRecords({ cursor, limit: HISTORY_PAGE_SIZE });
+        appendHistoryRows(page?.records || []);
+        cursor = page?.nextCursor || null;
+        done = !cursor;
+      } catch (error) {
+        done = true;
+        handleApiError(error, messageEl, "Unable to load attendance history.");
+      } finally {
+        loading = false;
+      }
+
+      if (done) {
+        observer?.disconnect();
+        sentinel?.classList.add("hidden");
+      }
+      emptyEl?.classList.toggle("hidden", Boolean(tableBody?.children.length));
+    };
+
+    if (tableBody) tableBody.innerHTML = "";
+    await loadMore();
+
+    if (!done && sentinel && "IntersectionObserver" in window) {
+      observer = new IntersectionObserver((entries) => {
+        if (entries.some((entry) => entry.isIntersecting)) {
+          loadMore();
+        }
+      }, { rootMargin: "200px" });
+      observer.observe(sentinel);
     }
   };
 
@@ -360,19 +388,9 @@
     if (totalEl) totalEl.textContent = records.length;
   };
 
-  const renderAdminTable = (records) => {
+  const appendAdminRows = (records) => {
     const tableBody = qs("#adminTableBody");
-    const emptyEl = qs("#adminEmpty");
-
     if (!tableBody) return;
-    tableBody.innerHTML = "";
-
-    if (!records.length) {
-      emptyEl?.classList.remove("hidden");
-      return;
-    }
-
-    emptyEl?.classList.add("hidden");
 
     records.forEach((record) => {
       const status = record.status || "PRESENT";
@@ -389,16 +407,64 @@
     });
   };
 
+  const initAdminSearch = (messageEl) => {
+    const form = qs("#adminSearchForm");
+    const tableBody = qs("#adminTableBody");
+    const emptyEl = qs("#adminEmpty");
+    const loadMoreButton = qs("#adminLoadMore");
+
+    let filters = {};
+    let cursor = null;
+
+    const loadPage = async () => {
+      setButtonLoading(loadMoreButton, true);
+      try {
+        const page = await api.searchAttendance({ ...filters, cursor, limit: ADMIN_PAGE_SIZE });
+        appendAdminRows(page?.records || []);
+        cursor = page?.nextCursor || null;
+      } catch (error) {
+        cursor = null;
+        handleApiError(error, messageEl, "Unable to search attendance records.");
+      } finally {
+        setButtonLoading(loadMoreButton, false);
+      }
+      loadMoreButton?.classList.toggle("hidden", !cursor);
+      emptyEl?.classList.toggle("hidden", Boolean(tableBody?.children.length));
+    };
+
+    const search = () => {
+      const data = new FormData(form);
+      filters = {
+        q: data.get("q")?.trim(),
+        from: data.get("from"),
+        to: data.get("to"),
+        status: data.get("status"),
+      };
+      cursor = null;
+      setMessage(messageEl, "");
+      if (tableBody) tableBody.innerHTML = "";
+      return loadPage();
+    };
+
+    form?.addEventListener("submit", (event) => {
+      event.preventDefault();
+      search();
+    });
+    loadMoreButton?.addEventListener("click", () => loadPage());
+    return search();
+  };
+
   const initAdminPage = async () => {
     const messageEl = qs("#adminMessage");
 
+    const searching = initAdminSearch(messageEl);
     try {
       const records = await api.getAllAttendance();
       renderAdminSummary(records || []);
-      renderAdminTable(records || []);
     } catch (error) {
       handleApiError(error, messageEl, "Unable to load admin data.");
     }
+    await searching;
   };
 
   const init = () => {
@@ -0,0 +1,78 @@
+package com.ernoxin.atency;
+
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * A database of its own for one test class, created on a Postgres server when the context starts and dropped
+ * once the class is done. Tests that mark absences for every user or edit projections by hand write only
+ * there, so an aborted run leaves nothing behind in a database anyone else uses.
+ * <p>
+ * {@link #create()} uses the server given by {@code -Dtest.jdbc-url}, or the one the application itself is
+ * configured with; the user needs the {@code CREATEDB} privilege.
+ */
+public final class TestDatabase {
+
+    private final String serverUrl;
+    private final String username;
+    private final String password;
+    private String name;
+
+    private TestDatabase(String serverUrl, String username, String password) {
+        this.serverUrl = serverUrl;
+        this.username = username;
+        this.password = password;
+    }
+
+    public static TestDatabase create() {
+        Properties application;
+        try {
+            application = PropertiesLoaderUtils.loadAllProperties("application.properties");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return create(
+                System.getProperty("test.jdbc-url", application.getProperty("spring.datasource.url")),
+                System.getProperty("test.jdbc-username", application.getProperty("spring.datasource.username")),
+                System.getProperty("test.jdbc-password", application.getProperty("spring.datasource.password")));
+    }
+
+    public static TestDatabase create(String serverUrl, String username, String password) {
+        return new TestDatabase(serverUrl, username, password);
+    }
+
+    public void register(DynamicPropertyRegistry registry) {
+        name = "atency_test_" + UUID.randomUUID().toString().substring(0, 8);
+        execute("create database " + name);
+        String databaseUrl = serverUrl.replaceFirst("/[^/?]+(\\?|$)", "/" + name + "$1");
+        registry.add("spring.datasource.url", () -> databaseUrl);
+        registry.add("spring.datasource.username", () -> username);
+        registry.add("spring.datasource.password", () -> password);
+    }
+
+    public void drop() {
+        if (name != null) {
+            // The test context may still hold its pools at this point.
+            execute("drop database if exists " + name + " with (force)");
+            name = null;
+        }
+    }
+
+    private void execute(String sql) {
+        try (Connection connection = DriverManager.getConnection(serverUrl, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Test database statement failed: " + sql, ex);
+        }
+    }
+}
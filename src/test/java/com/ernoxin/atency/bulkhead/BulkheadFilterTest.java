@@ -0,0 +1,85 @@
+package com.ernoxin.atency.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkheadFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BulkheadFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        BulkheadRoutingDataSource dataSource = new BulkheadRoutingDataSource(
+                new HikariDataSource(), new HikariDataSource(), new HikariDataSource());
+        filter = new BulkheadFilter(dataSource, new ObjectMapper(), meterRegistry);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "criticalMaxConcurrent", 1);
+        ReflectionTestUtils.setField(filter, "criticalMaxWait", Duration.ZERO);
+        ReflectionTestUtils.setField(filter, "reportingMaxConcurrent", 1);
+        ReflectionTestUtils.setField(filter, "reportingMaxWait", Duration.ZERO);
+        ReflectionTestUtils.setField(filter, "shedInFlight", 1);
+        filter.init();
+    }
+
+    @Test
+    void classifiesAttendanceWritesAndAdminReads() {
+        assertThat(BulkheadFilter.classify(new MockHttpServletRequest("POST", "/api/attendance/check-in")))
+                .isEqualTo(Bulkhead.CRITICAL);
+        assertThat(BulkheadFilter.classify(new MockHttpServletRequest("GET", "/api/admin/attendance/all")))
+                .isEqualTo(Bulkhead.REPORTING);
+        assertThat(BulkheadFilter.classify(new MockHttpServletRequest("POST", "/api/admin/attendance/7/corrections")))
+                .isEqualTo(Bulkhead.STANDARD);
+        assertThat(BulkheadFilter.classify(new MockHttpServletRequest("GET", "/api/attendance/my-records")))
+                .isEqualTo(Bulkhead.STANDARD);
+    }
+
+    @Test
+    void shedsReportingWhileCriticalRequestsAreInFlight() throws Exception {
+        AtomicReference<Bulkhead> routed = new AtomicReference<>();
+        MockHttpServletResponse report = new MockHttpServletResponse();
+        MockHttpServletResponse checkIn = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/attendance/check-in"), checkIn, (req, res) -> {
+            routed.set(BulkheadContext.current());
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/admin/attendance/all"), report,
+                    (r, s) -> routed.set(Bulkhead.REPORTING));
+        });
+
+        assertThat(checkIn.getStatus()).isEqualTo(200);
+        assertThat(routed.get()).isEqualTo(Bulkhead.CRITICAL);
+        assertThat(report.getStatus()).isEqualTo(503);
+        assertThat(report.getHeader("Retry-After")).isEqualTo("10");
+        assertThat(BulkheadContext.current()).isEqualTo(Bulkhead.STANDARD);
+        assertThat(meterRegistry.get("atency.bulkhead.requests")
+                .tags("bulkhead", "reporting", "outcome", "shed", "reason", "in_flight").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void rejectsCriticalRequestsBeyondTheBulkhead() throws Exception {
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/attendance/check-in"), new MockHttpServletResponse(),
+                (req, res) -> filter.doFilter(new MockHttpServletRequest("POST", "/api/attendance/check-out"), second,
+                        (r, s) -> {
+                        }));
+
+        assertThat(second.getStatus()).isEqualTo(503);
+        assertThat(second.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(meterRegistry.get("atency.bulkhead.requests")
+                .tags("bulkhead", "critical", "outcome", "rejected").counter().count())
+                .isEqualTo(1);
+    }
+}
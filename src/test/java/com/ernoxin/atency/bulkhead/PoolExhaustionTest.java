@@ -0,0 +1,68 @@
+package com.ernoxin.atency.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A request that finds its pool exhausted must be answered like any other bulkhead timeout, even though the
+ * connection is only requested at the first statement.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.datasource.hikari.connection-timeout=500", "app.outbox.relay-interval-ms=3600000"})
+class PoolExhaustionTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private HikariDataSource standardDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void exhaustedPoolAnswersServiceUnavailable() throws Exception {
+        double timeoutsBefore = timeouts();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"pool-exhaustion\",\"password\":\"secret1\",\"fullName\":\"Pool Exhaustion\"}"))
+                .build();
+
+        List<Connection> held = new ArrayList<>();
+        HttpResponse<String> response;
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            for (int i = 0; i < standardDataSource.getMaximumPoolSize(); i++) {
+                held.add(standardDataSource.getConnection());
+            }
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+
+        assertThat(response.statusCode()).isEqualTo(503);
+        assertThat(response.headers().firstValue("Retry-After")).contains("1");
+        assertThat(timeouts()).isEqualTo(timeoutsBefore + 1);
+    }
+
+    private double timeouts() {
+        return meterRegistry.counter("atency.bulkhead.timeouts", "bulkhead", Bulkhead.STANDARD.tag(),
+                "kind", "connection").count();
+    }
+}
@@ -0,0 +1,42 @@
+package com.ernoxin.atency.config;
+
+import com.ernoxin.atency.dto.ApiErrorResponse;
+import com.ernoxin.atency.dto.AttendanceRecordDto;
+import com.ernoxin.atency.dto.BaseResponse;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AtencyRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    AtencyRuntimeHintsTest() {
+        new AtencyRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void jsonTypesCanBeReadAndWritten() throws NoSuchMethodException {
+        for (Class<?> type : new Class<?>[]{BaseResponse.class, ApiErrorResponse.class, AttendanceRecordDto.class}) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(type)).accepts(hints);
+        }
+        assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(ApiErrorResponse.class.getMethod("getMessage")))
+                .accepts(hints);
+    }
+
+    @Test
+    void jjwtImplementationsLoadedByNameAreRegistered() throws ClassNotFoundException {
+        for (String type : AtencyRuntimeHints.JJWT_TYPES) {
+            // Fails when a JJWT upgrade renames a class, so the list cannot silently go stale.
+            Class.forName(type, false, Jwts.class.getClassLoader());
+            assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of(type))
+                    .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        }
+        assertThat(RuntimeHintsPredicates.resource().forResource("jfr/atency.jfc")).accepts(hints);
+    }
+}
@@ -0,0 +1,80 @@
+package com.ernoxin.atency.exception;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of rejecting a request by throwing from deep in the call stack, the way a check-in is
+ * rejected under the servlet, security filter and transaction proxy frames: a plain exception that fills in
+ * its stack trace (the previous behaviour), a stackless {@link BadRequestException}, and a preallocated one.
+ * <p>
+ * Run with {@code ./mvnw test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main
+ * -Dexec.args="BusinessExceptionBenchmark -prof gc -f 0"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusinessExceptionBenchmark {
+
+    private static final String MESSAGE = "You have already checked in today";
+    private static final BadRequestException PREALLOCATED = new BadRequestException(MESSAGE);
+
+    // Roughly the depth of a rejected check-in, and a shallow call for comparison.
+    @Param({"150", "20"})
+    private int depth;
+
+    @Benchmark
+    public String withStackTrace() {
+        try {
+            return descend(depth, Kind.STACK_TRACE);
+        } catch (RuntimeException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String stackless() {
+        try {
+            return descend(depth, Kind.STACKLESS);
+        } catch (BusinessException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String preallocated() {
+        try {
+            return descend(depth, Kind.PREALLOCATED);
+        } catch (BusinessException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    private static String descend(int remaining, Kind kind) {
+        if (remaining > 0) {
+            return descend(remaining - 1, kind);
+        }
+        throw switch (kind) {
+            case STACK_TRACE -> new RuntimeException(MESSAGE);
+            case STACKLESS -> new BadRequestException(MESSAGE);
+            case PREALLOCATED -> PREALLOCATED;
+        };
+    }
+
+    private enum Kind {
+        STACK_TRACE, STACKLESS, PREALLOCATED
+    }
+}
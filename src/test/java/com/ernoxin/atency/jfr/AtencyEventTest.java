@@ -0,0 +1,58 @@
+package com.ernoxin.atency.jfr;
+
+import com.ernoxin.atency.logging.ReferenceIdUtil;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.MDC;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AtencyEventTest {
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    void eventCarriesTheRequestReferenceId() throws Exception {
+        Path file = dir.resolve("events.jfr");
+        try (Recording recording = new Recording(FlightRecordingStarter.settings())) {
+            recording.start();
+            MDC.put(ReferenceIdUtil.MDC_KEY, "ref-1");
+            CheckInEvent event = CheckInEvent.start();
+            event.setUserId(42L);
+            event.setSuccess(true);
+            event.finish();
+            MDC.remove(ReferenceIdUtil.MDC_KEY);
+            AbsenceShardEvent shard = AbsenceShardEvent.start();
+            shard.setFromUserId(1000);
+            shard.setToUserId(1999);
+            shard.setRows(7);
+            shard.finish();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().startsWith("atency."))
+                .toList();
+        assertThat(events).extracting(e -> e.getEventType().getName())
+                .containsExactly("atency.CheckIn", "atency.AbsenceShard");
+        assertThat(events.get(0).getString("referenceId")).isEqualTo("ref-1");
+        assertThat(events.get(0).getLong("userId")).isEqualTo(42L);
+        assertThat(events.get(0).getBoolean("success")).isTrue();
+        assertThat(events.get(1).getString("referenceId")).isNull();
+        assertThat(events.get(1).getInt("rows")).isEqualTo(7);
+    }
+}
@@ -0,0 +1,199 @@
+package com.ernoxin.atency.loadtest;
+
+import com.ernoxin.atency.reactive.ReactiveReadServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the servlet and reactive read paths under the same dashboard load: a fixed number of clients
+ * keep polling my-summary and my-records for seeded employees with a year of history, first against the
+ * servlet port and then against the reactive port, each after an unrecorded warm-up.
+ * <p>
+ * Runs only with {@code mvn test -Pload-test}, against the database chosen by {@link LoadTestDatabase}.
+ * Both stacks get the same connection pool size. Results are written to
+ * {@code target/loadtest/dashboard-report.properties}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"app.reactive.enabled=true", "app.reactive.port=0"})
+class DashboardReadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardReadBenchmarkTest.class);
+
+    private static final String USER_PREFIX = "dashboard-";
+    private static final String USER_PASSWORD = "loadtest";
+    private static final int USERS = Integer.getInteger("loadtest.dashboard.users", 50);
+    private static final int HISTORY_DAYS = Integer.getInteger("loadtest.dashboard.history-days", 365);
+    private static final int CLIENTS = Integer.getInteger("loadtest.dashboard.clients", 100);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.dashboard.warmup-seconds", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.dashboard.duration-seconds", 20);
+    private static final Path REPORT = Path.of("target", "loadtest", "dashboard-report.properties");
+
+    @LocalServerPort
+    private int servletPort;
+
+    @Autowired
+    private ReactiveReadServer reactiveReadServer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        LoadTestDatabase.register(registry);
+        registry.add("app.seed.enabled", () -> "true");
+        registry.add("app.seed.users", () -> USERS);
+        registry.add("app.seed.user-prefix", () -> USER_PREFIX);
+        registry.add("app.seed.user-password", () -> USER_PASSWORD);
+        registry.add("app.seed.history-days", () -> HISTORY_DAYS);
+        registry.add("app.reactive.pool-size", () -> Integer.getInteger("loadtest.pool-size", 20));
+    }
+
+    @AfterAll
+    static void stopPostgres() {
+        LoadTestDatabase.stop();
+    }
+
+    @Test
+    void servletVersusReactiveDashboardReads() throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder();
+        // Both stacks are measured for the same duration, so one elapsed time serves both for throughput.
+        long elapsed;
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build()) {
+            List<String> tokens = login(client);
+            elapsed = run(client, tokens, "servlet", servletPort, recorder);
+            run(client, tokens, "reactive", reactiveReadServer.getPort(), recorder);
+        }
+
+        Map<String, LatencyRecorder.EndpointStats> stats = recorder.summarize(elapsed);
+        log.info("dashboardBenchmark users={} historyDays={} clients={} durationSeconds={}\n{}",
+                USERS, HISTORY_DAYS, CLIENTS, DURATION_SECONDS, LatencyRecorder.format(stats));
+        writeReport(stats);
+
+        assertThat(stats).containsOnlyKeys("servlet.my-summary", "servlet.my-records",
+                "reactive.my-summary", "reactive.my-records");
+        stats.forEach((endpoint, s) -> {
+            assertThat(s.requests()).as(endpoint + " requests").isPositive();
+            assertThat(s.errorRate()).as(endpoint + " error rate").isZero();
+        });
+    }
+
+    private List<String> login(HttpClient client) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> logins = IntStream.rangeClosed(1, USERS)
+                    .mapToObj(i -> executor.submit(() -> login(client, USER_PREFIX + String.format("%05d", i))))
+                    .toList();
+            List<String> tokens = new ArrayList<>(USERS);
+            for (Future<String> future : logins) {
+                tokens.add(future.get());
+            }
+            return tokens;
+        }
+    }
+
+    private String login(HttpClient client, String username) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of("username", username, "password", USER_PASSWORD));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + servletPort + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).as("login " + username).isEqualTo(200);
+        return objectMapper.readTree(response.body()).path("result").path("accessToken").asString();
+    }
+
+    // Closed loop: every client sends its next request as soon as the previous one completes.
+    private long run(HttpClient client, List<String> tokens, String stack, int port, LatencyRecorder recorder) {
+        poll(client, tokens, port, null, stack, WARMUP_SECONDS);
+        long started = System.nanoTime();
+        poll(client, tokens, port, recorder, stack, DURATION_SECONDS);
+        return System.nanoTime() - started;
+    }
+
+    private void poll(HttpClient client, List<String> tokens, int port, LatencyRecorder recorder, String stack,
+                      int seconds) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTS; c++) {
+                executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    boolean summary = random.nextBoolean();
+                    while (System.nanoTime() < deadline) {
+                        String token = tokens.get(random.nextInt(tokens.size()));
+                        String endpoint = summary ? "my-summary" : "my-records";
+                        String path = summary ? "/api/attendance/my-summary" : "/api/attendance/my-records?limit=31";
+                        send(client, recorder, stack + "." + endpoint, port, path, token);
+                        summary = !summary;
+                    }
+                });
+            }
+        }
+    }
+
+    private void send(HttpClient client, LatencyRecorder recorder, String endpoint, int port, String path,
+                      String token) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        long started = System.nanoTime();
+        boolean success;
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            success = response.statusCode() == 200;
+            if (!success) {
+                log.debug("dashboardBenchmark request rejected endpoint={} status={} body={}",
+                        endpoint, response.statusCode(), response.body());
+            }
+        } catch (IOException | InterruptedException ex) {
+            log.debug("dashboardBenchmark request failed endpoint={}", endpoint, ex);
+            success = false;
+        }
+        if (recorder != null) {
+            recorder.record(endpoint, System.nanoTime() - started, success);
+        }
+    }
+
+    private void writeReport(Map<String, LatencyRecorder.EndpointStats> stats) throws IOException {
+        Properties report = LatencyRecorder.toProperties(stats);
+        report.setProperty("profile.users", String.valueOf(USERS));
+        report.setProperty("profile.history-days", String.valueOf(HISTORY_DAYS));
+        report.setProperty("profile.clients", String.valueOf(CLIENTS));
+        report.setProperty("profile.duration-seconds", String.valueOf(DURATION_SECONDS));
+        Files.createDirectories(REPORT.getParent());
+        try (Writer writer = Files.newBufferedWriter(REPORT)) {
+            report.store(writer, "Dashboard read benchmark report");
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ernoxin.atency.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects per-endpoint latencies from concurrent virtual threads and turns them into
+ * throughput, percentile and error-rate figures once the run is over.
+ */
+class LatencyRecorder {
+
+    private final Map<String, EndpointSamples> samples = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long latencyNanos, boolean success) {
+        EndpointSamples endpointSamples = samples.computeIfAbsent(endpoint, key -> new EndpointSamples());
+        endpointSamples.latencies.add(latencyNanos);
+        if (!success) {
+            endpointSamples.errors.incrementAndGet();
+        }
+    }
+
+    Map<String, EndpointStats> summarize(long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        Map<String, EndpointStats> stats = new TreeMap<>();
+        samples.forEach((endpoint, endpointSamples) -> {
+            long[] sorted = endpointSamples.latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            stats.put(endpoint, new EndpointStats(
+                    sorted.length,
+                    sorted.length / elapsedSeconds,
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.95),
+                    percentileMillis(sorted, 0.99),
+                    sorted.length == 0 ? 0 : (double) endpointSamples.errors.get() / sorted.length));
+        });
+        return stats;
+    }
+
+    static String format(Map<String, EndpointStats> stats) {
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT,
+                "%-12s %8s %10s %9s %9s %9s %8s%n", "endpoint", "requests", "rps", "p50(ms)", "p95(ms)", "p99(ms)", "errors"));
+        stats.forEach((endpoint, s) -> report.append(String.format(Locale.ROOT,
+                "%-12s %8d %10.1f %9.1f %9.1f %9.1f %7.2f%%%n",
+                endpoint, s.requests(), s.throughput(), s.p50Millis(), s.p95Millis(), s.p99Millis(), s.errorRate() * 100)));
+        return report.toString();
+    }
+
+    // Same keys as the stored baseline, so a run can be promoted by copying the file.
+    static Properties toProperties(Map<String, EndpointStats> stats) {
+        Properties properties = new Properties();
+        stats.forEach((endpoint, s) -> {
+            properties.setProperty(endpoint + ".throughput", String.format(Locale.ROOT, "%.1f", s.throughput()));
+            properties.setProperty(endpoint + ".p50-ms", String.format(Locale.ROOT, "%.1f", s.p50Millis()));
+            properties.setProperty(endpoint + ".p95-ms", String.format(Locale.ROOT, "%.1f", s.p95Millis()));
+            properties.setProperty(endpoint + ".p99-ms", String.format(Locale.ROOT, "%.1f", s.p99Millis()));
+            properties.setProperty(endpoint + ".error-rate", String.format(Locale.ROOT, "%.4f", s.errorRate()));
+        });
+        return properties;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    record EndpointStats(long requests, double throughput, double p50Millis, double p95Millis, double p99Millis,
+                         double errorRate) {
+    }
+
+    private static final class EndpointSamples {
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicLong errors = new AtomicLong();
+    }
+}
@@ -0,0 +1,49 @@
+package com.ernoxin.atency.loadtest;
+
+import com.ernoxin.atency.TestDatabase;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Points a load test at the Postgres given by {@code -Dloadtest.jdbc-url}, or starts one with Testcontainers.
+ * On a given server the test runs in a {@link TestDatabase} of its own that is dropped afterwards, so the
+ * seeded users, calendar overrides and attendance it writes never mix with the data already there.
+ */
+final class LoadTestDatabase {
+
+    private static PostgreSQLContainer postgres;
+    private static TestDatabase database;
+
+    private LoadTestDatabase() {
+    }
+
+    static void register(DynamicPropertyRegistry registry) {
+        String jdbcUrl = System.getProperty("loadtest.jdbc-url");
+        if (jdbcUrl != null) {
+            database = TestDatabase.create(jdbcUrl,
+                    System.getProperty("loadtest.jdbc-username", "postgres"),
+                    System.getProperty("loadtest.jdbc-password", "12345"));
+            database.register(registry);
+        } else {
+            postgres = new PostgreSQLContainer("postgres:17-alpine");
+            postgres.start();
+            registry.add("spring.datasource.url", postgres::getJdbcUrl);
+            registry.add("spring.datasource.username", postgres::getUsername);
+            registry.add("spring.datasource.password", postgres::getPassword);
+        }
+        registry.add("app.rate-limit.enabled", () -> "false");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> Integer.getInteger("loadtest.pool-size", 20));
+        registry.add("app.bulkhead.critical.pool-size", () -> Integer.getInteger("loadtest.critical-pool-size", 5));
+    }
+
+    static void stop() {
+        if (postgres != null) {
+            postgres.stop();
+            postgres = null;
+        }
+        if (database != null) {
+            database.drop();
+            database = null;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.ernoxin.atency.loadtest;
+
+import com.ernoxin.atency.dto.CalendarOverrideRequest;
+import com.ernoxin.atency.service.CalendarService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replays the morning check-in storm: every seeded employee logs in, checks in, opens the dashboard and
+ * checks out, with arrivals spread over a ramp window that peaks in the middle (a triangular distribution).
+ * <p>
+ * Runs only with {@code mvn test -Pload-test}, against the database chosen by {@link LoadTestDatabase}. That
+ * database is dropped after the run, so making today a working day and clearing today's attendance
+ * before each run leave nothing behind. Results are written to {@code target/loadtest/report.properties} and compared against
+ * {@code src/test/resources/loadtest/baseline.properties}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ShiftStartLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ShiftStartLoadTest.class);
+
+    private static final String USER_PREFIX = "loadtest-";
+    private static final String USER_PASSWORD = "loadtest";
+    private static final int USERS = Integer.getInteger("loadtest.users", 100);
+    private static final int RAMP_SECONDS = Integer.getInteger("loadtest.ramp-seconds", 20);
+    private static final long DWELL_MILLIS = Long.getLong("loadtest.dwell-ms", 200);
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("loadtest.tolerance", "1.5"));
+    private static final Path REPORT = Path.of("target", "loadtest", "report.properties");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CalendarService calendarService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        LoadTestDatabase.register(registry);
+        registry.add("app.seed.enabled", () -> "true");
+        registry.add("app.seed.users", () -> USERS);
+        registry.add("app.seed.user-prefix", () -> USER_PREFIX);
+        registry.add("app.seed.user-password", () -> USER_PASSWORD);
+    }
+
+    @AfterAll
+    static void stopPostgres() {
+        LoadTestDatabase.stop();
+    }
+
+    @BeforeEach
+    void resetToday() {
+        LocalDate today = LocalDate.now();
+        if (!calendarService.isWorkingDay(today)) {
+            CalendarOverrideRequest request = new CalendarOverrideRequest();
+            request.setDate(today);
+            request.setWorking(true);
+            request.setDescription("load test");
+            calendarService.saveOverride(request);
+        }
+        jdbcTemplate.update("""
+                delete from attendance a using users u
+                where a.user_id = u.id and u.username like ? and a.date = ?
+                """, USER_PREFIX + "%", today);
+    }
+
+    @Test
+    void shiftStartStorm() throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder();
+        Random random = new Random(42);
+        long rampNanos = TimeUnit.SECONDS.toNanos(RAMP_SECONDS);
+
+        long start = System.nanoTime();
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 1; i <= USERS; i++) {
+                String username = USER_PREFIX + String.format("%05d", i);
+                long offset = (long) ((random.nextDouble() + random.nextDouble()) / 2 * rampNanos);
+                executor.submit(() -> {
+                    sleepUntil(start + offset);
+                    runShift(client, recorder, username);
+                    return null;
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Map<String, LatencyRecorder.EndpointStats> stats = recorder.summarize(elapsed);
+        log.info("loadTest users={} rampSeconds={} elapsedMs={}\n{}",
+                USERS, RAMP_SECONDS, TimeUnit.NANOSECONDS.toMillis(elapsed), LatencyRecorder.format(stats));
+        writeReport(stats);
+
+        assertThat(stats).containsOnlyKeys("login", "check-in", "my-summary", "check-out");
+        stats.values().forEach(s -> assertThat(s.requests()).isEqualTo(USERS));
+        assertAgainstBaseline(stats);
+    }
+
+    private void runShift(HttpClient client, LatencyRecorder recorder, String username) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of("username", username, "password", USER_PASSWORD));
+        HttpResponse<String> login = send(client, recorder, "login", request("/api/auth/login", null)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+        if (login == null) {
+            return;
+        }
+        String token = objectMapper.readTree(login.body()).path("result").path("accessToken").asString();
+
+        send(client, recorder, "check-in", request("/api/attendance/check-in", token)
+                .POST(HttpRequest.BodyPublishers.noBody()));
+        send(client, recorder, "my-summary", request("/api/attendance/my-summary", token).GET());
+        Thread.sleep(DWELL_MILLIS);
+        send(client, recorder, "check-out", request("/api/attendance/check-out", token)
+                .POST(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpResponse<String> send(HttpClient client, LatencyRecorder recorder, String endpoint,
+                                      HttpRequest.Builder builder) {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            boolean success = response.statusCode() / 100 == 2;
+            if (!success) {
+                log.debug("loadTest request rejected endpoint={} status={} body={}",
+                        endpoint, response.statusCode(), response.body());
+            }
+            recorder.record(endpoint, System.nanoTime() - started, success);
+            return success ? response : null;
+        } catch (IOException | InterruptedException ex) {
+            log.debug("loadTest request failed endpoint={}", endpoint, ex);
+            recorder.record(endpoint, System.nanoTime() - started, false);
+            return null;
+        }
+    }
+
+    private void writeReport(Map<String, LatencyRecorder.EndpointStats> stats) throws IOException {
+        Properties report = LatencyRecorder.toProperties(stats);
+        report.setProperty("profile.users", String.valueOf(USERS));
+        report.setProperty("profile.ramp-seconds", String.valueOf(RAMP_SECONDS));
+        Files.createDirectories(REPORT.getParent());
+        try (Writer writer = Files.newBufferedWriter(REPORT)) {
+            report.store(writer, "Shift-start load test report");
+        }
+    }
+
+    // Latencies may grow by the tolerance factor and throughput may shrink by it; error rates may not grow at all.
+    private void assertAgainstBaseline(Map<String, LatencyRecorder.EndpointStats> stats) throws IOException {
+        Properties baseline = new Properties();
+        try (InputStream in = getClass().getResourceAsStream("/loadtest/baseline.properties")) {
+            assertThat(in).as("loadtest/baseline.properties").isNotNull();
+            baseline.load(in);
+        }
+        if (!String.valueOf(USERS).equals(baseline.getProperty("profile.users"))
+                || !String.valueOf(RAMP_SECONDS).equals(baseline.getProperty("profile.ramp-seconds"))) {
+            log.warn("loadTest baseline skipped, profile differs from baseline profile users={} rampSeconds={}",
+                    baseline.getProperty("profile.users"), baseline.getProperty("profile.ramp-seconds"));
+            return;
+        }
+
+        List<String> regressions = new ArrayList<>();
+        stats.forEach((endpoint, s) -> {
+            checkAtMost(regressions, endpoint + ".p95-ms", s.p95Millis(), baseline, TOLERANCE);
+            checkAtMost(regressions, endpoint + ".p99-ms", s.p99Millis(), baseline, TOLERANCE);
+            checkAtMost(regressions, endpoint + ".error-rate", s.errorRate(), baseline, 1);
+            double minThroughput = Double.parseDouble(baseline.getProperty(endpoint + ".throughput", "0")) / TOLERANCE;
+            if (s.throughput() < minThroughput) {
+                regressions.add("%s.throughput=%.1f below %.1f".formatted(endpoint, s.throughput(), minThroughput));
+            }
+        });
+        assertThat(regressions).as("regressions against baseline").isEmpty();
+    }
+
+    private static void checkAtMost(List<String> regressions, String key, double actual, Properties baseline,
+                                    double factor) {
+        String expected = baseline.getProperty(key);
+        if (expected == null) {
+            return;
+        }
+        double limit = Double.parseDouble(expected) * factor;
+        if (actual > limit) {
+            regressions.add("%s=%.4f above %.4f".formatted(key, actual, limit));
+        }
+    }
+
+    private static void sleepUntil(long deadlineNanos) throws InterruptedException {
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.ernoxin.atency.logging;
+
+import com.ernoxin.atency.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.QueryTimeoutException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.jakarta.persistence.query.timeout=1000")
+@ExtendWith(OutputCaptureExtension.class)
+class QueryMetricsListenerTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void countsStatementsOfTheCurrentRequest() {
+        RequestProfile.begin();
+        userRepository.count();
+        userRepository.existsByUsername("admin");
+        RequestProfile profile = RequestProfile.end();
+
+        assertThat(profile.statements()).isEqualTo(2);
+    }
+
+    @Test
+    void cancelsQueriesPastTheDefaultTimeoutAndLogsThemWithTheReferenceId(CapturedOutput output) {
+        MDC.put(ReferenceIdUtil.MDC_KEY, "slow-query-test");
+        try {
+            assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                    entityManager.createNativeQuery("select pg_sleep(5)").getSingleResult()))
+                    .isInstanceOf(QueryTimeoutException.class);
+        } finally {
+            MDC.remove(ReferenceIdUtil.MDC_KEY);
+        }
+
+        assertThat(output).containsPattern("Slow query referenceId=slow-query-test .*success=false .*pg_sleep");
+    }
+}
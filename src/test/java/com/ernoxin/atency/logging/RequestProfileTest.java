@@ -0,0 +1,60 @@
+package com.ernoxin.atency.logging;
+
+import com.ernoxin.atency.logging.RequestProfile.Phase;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestProfileTest {
+
+    @Test
+    void nestedPhasePausesTheOuterOne() throws InterruptedException {
+        RequestProfile.begin();
+        RequestProfile.enter(Phase.MAPPING);
+        RequestProfile.enter(Phase.REPOSITORY);
+        Thread.sleep(20);
+        RequestProfile.exit();
+        RequestProfile.exit();
+        Map<String, String> fields = fields(RequestProfile.end());
+
+        assertThat(Double.parseDouble(fields.get("repoMs"))).isGreaterThanOrEqualTo(20);
+        assertThat(Double.parseDouble(fields.get("mapMs"))).isLessThan(20);
+    }
+
+    @Test
+    void userLookupKeepsTheRepositoryCallsItMakes() throws InterruptedException {
+        RequestProfile.begin();
+        RequestProfile.enter(Phase.USER_LOOKUP);
+        RequestProfile.enter(Phase.REPOSITORY);
+        Thread.sleep(20);
+        RequestProfile.exit();
+        RequestProfile.exit();
+        Map<String, String> fields = fields(RequestProfile.end());
+
+        assertThat(Double.parseDouble(fields.get("userMs"))).isGreaterThanOrEqualTo(20);
+        assertThat(fields.get("repoMs")).isEqualTo("0.0");
+    }
+
+    @Test
+    void endClosesOpenPhasesAndLaterCallsAreIgnored() throws InterruptedException {
+        RequestProfile.begin();
+        RequestProfile.enter(Phase.SERIALIZATION);
+        Thread.sleep(20);
+        Map<String, String> fields = fields(RequestProfile.end());
+        RequestProfile.enter(Phase.MAPPING);
+        RequestProfile.exit();
+
+        assertThat(Double.parseDouble(fields.get("serMs"))).isGreaterThanOrEqualTo(20);
+        assertThat(RequestProfile.serverTiming()).isNull();
+    }
+
+    private static Map<String, String> fields(RequestProfile profile) {
+        return Arrays.stream(profile.toLogFields().split(" "))
+                .map(field -> field.split("="))
+                .collect(Collectors.toMap(pair -> pair[0], pair -> pair[1]));
+    }
+}
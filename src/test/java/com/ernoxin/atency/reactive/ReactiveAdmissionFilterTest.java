@@ -0,0 +1,88 @@
+package com.ernoxin.atency.reactive;
+
+import com.ernoxin.atency.bulkhead.BulkheadFilter;
+import com.ernoxin.atency.bulkhead.BulkheadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveAdmissionFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BulkheadFilter bulkheadFilter;
+    private ReactiveAdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        BulkheadRoutingDataSource dataSource = new BulkheadRoutingDataSource(
+                new HikariDataSource(), new HikariDataSource(), new HikariDataSource());
+        bulkheadFilter = new BulkheadFilter(dataSource, new ObjectMapper(), meterRegistry);
+        ReflectionTestUtils.setField(bulkheadFilter, "enabled", true);
+        ReflectionTestUtils.setField(bulkheadFilter, "criticalMaxConcurrent", 1);
+        ReflectionTestUtils.setField(bulkheadFilter, "criticalMaxWait", Duration.ZERO);
+        ReflectionTestUtils.setField(bulkheadFilter, "reportingMaxConcurrent", 1);
+        ReflectionTestUtils.setField(bulkheadFilter, "reportingMaxWait", Duration.ZERO);
+        ReflectionTestUtils.setField(bulkheadFilter, "shedInFlight", 10);
+        ReflectionTestUtils.invokeMethod(bulkheadFilter, "init");
+        filter = new ReactiveAdmissionFilter(bulkheadFilter, new ObjectMapper(), meterRegistry, 2);
+    }
+
+    @Test
+    void sharesReportingSlotsWithTheServletPortUntilTheResponseIsWritten() {
+        Sinks.Empty<Void> written = Sinks.empty();
+        MockServerWebExchange first = exchange("/api/admin/attendance/all");
+        MockServerWebExchange second = exchange("/api/admin/attendance/all");
+
+        filter.filter(first, exchange -> written.asMono()).subscribe();
+        filter.filter(second, pass()).block();
+
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(second.getResponse().getHeaders().getFirst("Retry-After")).isEqualTo("10");
+        assertThat(bulkheadFilter.tryAdmitReporting()).isEqualTo("full");
+
+        written.tryEmitEmpty();
+        assertThat(bulkheadFilter.tryAdmitReporting()).isNull();
+    }
+
+    @Test
+    void shedsRequestsBeyondTheInFlightCap() {
+        Sinks.Empty<Void> written = Sinks.empty();
+        filter.filter(exchange("/api/attendance/my-summary"), exchange -> written.asMono()).subscribe();
+        filter.filter(exchange("/api/attendance/my-summary"), exchange -> written.asMono()).subscribe();
+        MockServerWebExchange third = exchange("/api/attendance/my-records");
+
+        filter.filter(third, pass()).block();
+
+        assertThat(third.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(third.getResponse().getHeaders().getFirst("Retry-After")).isEqualTo("1");
+        assertThat(meterRegistry.get("atency.bulkhead.requests")
+                .tags("bulkhead", "standard", "outcome", "shed", "reason", "reactive_in_flight").counter().count())
+                .isEqualTo(1);
+
+        written.tryEmitEmpty();
+        MockServerWebExchange fourth = exchange("/api/attendance/my-records");
+        filter.filter(fourth, pass()).block();
+        assertThat(fourth.getResponse().getStatusCode()).isNull();
+    }
+
+    private static MockServerWebExchange exchange(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path));
+    }
+
+    private static WebFilterChain pass() {
+        return exchange -> Mono.empty();
+    }
+}
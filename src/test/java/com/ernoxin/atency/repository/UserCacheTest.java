@@ -0,0 +1,44 @@
+package com.ernoxin.atency.repository;
+
+import com.ernoxin.atency.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Statistics are global, so the outbox relay is kept from running in the background.
+@SpringBootTest(properties = {"spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.outbox.relay-interval-ms=3600000"})
+@ActiveProfiles("prod")
+class UserCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void repeatedUsernameLookupsAreServedFromCache() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+
+        statistics.clear();
+        User cached = userRepository.findByUsername("admin").orElseThrow();
+        userRepository.findById(admin.getId()).orElseThrow();
+        userRepository.findMaxId();
+        userRepository.findMaxId();
+
+        assertThat(cached.getId()).isEqualTo(admin.getId());
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(2);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(userRepository.findByUsername("missing-user")).isEmpty();
+    }
+}
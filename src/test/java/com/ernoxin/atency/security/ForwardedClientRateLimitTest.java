@@ -0,0 +1,81 @@
+package com.ernoxin.atency.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Auth endpoints behind a trusted proxy are limited per forwarded client, not per proxy, and a client cannot
+ * move to a fresh bucket by prepending addresses to {@code X-Forwarded-For}. Behind one address each username
+ * has its own bucket, up to the per-address cap. The test client connects from loopback, which is one of the
+ * trusted proxies.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"app.rate-limit.auth.capacity=2", "app.rate-limit.auth.refill-per-minute=1",
+                "app.rate-limit.auth-ip.capacity=5", "app.rate-limit.auth-ip.refill-per-minute=1",
+                "app.outbox.relay-interval-ms=3600000"})
+// No other test shares these limits, so the context is closed afterwards instead of holding its pools.
+@DirtiesContext
+class ForwardedClientRateLimitTest {
+
+    private static final int UNAUTHORIZED = 401;
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void limitsEachForwardedClientSeparately() throws Exception {
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            assertThat(send(client, "203.0.113.1")).isNotEqualTo(TOO_MANY_REQUESTS);
+            assertThat(send(client, "203.0.113.1")).isNotEqualTo(TOO_MANY_REQUESTS);
+            assertThat(send(client, "203.0.113.1")).isEqualTo(TOO_MANY_REQUESTS);
+
+            assertThat(send(client, "203.0.113.2")).isNotEqualTo(TOO_MANY_REQUESTS);
+            assertThat(send(client, "198.51.100.7, 203.0.113.1")).isEqualTo(TOO_MANY_REQUESTS);
+        }
+    }
+
+    @Test
+    void limitsEachUsernameBehindOneAddressUpToTheAddressCap() throws Exception {
+        String office = "192.0.2.10";
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            // The controller still reads the body the limiter looked at, and rejects the password.
+            assertThat(login(client, office, "alice")).isEqualTo(UNAUTHORIZED);
+            assertThat(login(client, office, "alice")).isNotEqualTo(TOO_MANY_REQUESTS);
+            assertThat(login(client, office, "ALICE")).isEqualTo(TOO_MANY_REQUESTS);
+
+            assertThat(login(client, office, "bob")).isNotEqualTo(TOO_MANY_REQUESTS);
+            assertThat(login(client, office, "carol")).isNotEqualTo(TOO_MANY_REQUESTS);
+            assertThat(login(client, office, "dave")).isEqualTo(TOO_MANY_REQUESTS);
+        }
+    }
+
+    private int login(HttpClient client, String forwardedFor, String username)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("X-Forwarded-For", forwardedFor)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + username + "\",\"password\":\"wrong\"}"))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int send(HttpClient client, String forwardedFor) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("X-Forwarded-For", forwardedFor)
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,135 @@
+package com.ernoxin.atency.service;
+
+import com.ernoxin.atency.TestDatabase;
+import com.ernoxin.atency.entity.AttendanceEvent;
+import com.ernoxin.atency.entity.AttendanceEventType;
+import com.ernoxin.atency.entity.AttendanceStatus;
+import com.ernoxin.atency.entity.Role;
+import com.ernoxin.atency.entity.User;
+import com.ernoxin.atency.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that rebuilding a user's projections from the log, from the latest snapshot or in full, lands on
+ * exactly the rows and totals the incremental projection produced, including a day touched both before and
+ * after the snapshot. Rows keep their ids, since those have been published through the outbox.
+ */
+@SpringBootTest(properties = "app.outbox.relay-interval-ms=3600000")
+// The test corrupts projections by hand, so the context runs on its own database, dropped after the class.
+@DirtiesContext
+class AttendanceRebuildTest {
+
+    private static final String USERNAME = "rebuild-test";
+    private static final LocalDate DAY_1 = LocalDate.of(2001, 2, 5);
+    private static final LocalDate DAY_2 = DAY_1.plusDays(1);
+    private static final LocalDate DAY_3 = DAY_1.plusDays(2);
+    private static final LocalDate DAY_4 = DAY_1.plusDays(3);
+    private static final TestDatabase DATABASE = TestDatabase.create();
+
+    @Autowired
+    private AttendanceProjector attendanceProjector;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        DATABASE.register(registry);
+    }
+
+    @AfterAll
+    static void dropDatabase() {
+        DATABASE.drop();
+    }
+
+    @BeforeEach
+    void createUser() {
+        user = userRepository.save(User.builder()
+                .username(USERNAME)
+                .password("-")
+                .fullName("Rebuild Test")
+                .role(Role.EMPLOYEE)
+                .build());
+    }
+
+    @Test
+    void rebuildMatchesIncrementalProjection() {
+        append(event(DAY_1, AttendanceEventType.CHECK_IN).checkInTime(LocalTime.of(9, 0)));
+        append(event(DAY_1, AttendanceEventType.CHECK_OUT).checkOutTime(LocalTime.of(17, 0)));
+        append(event(DAY_2, AttendanceEventType.ABSENCE));
+        append(event(DAY_3, AttendanceEventType.CHECK_IN).checkInTime(LocalTime.of(8, 30)));
+        attendanceProjector.snapshot();
+        append(event(DAY_3, AttendanceEventType.CHECK_OUT).checkOutTime(LocalTime.of(12, 45)));
+        append(event(DAY_2, AttendanceEventType.CORRECTION)
+                .checkInTime(LocalTime.of(10, 0))
+                .checkOutTime(LocalTime.of(11, 15))
+                .status(AttendanceStatus.PRESENT));
+        append(event(DAY_4, AttendanceEventType.ABSENCE));
+
+        Map<String, Object> summary = summary();
+        List<Map<String, Object>> rows = rows();
+        assertThat(summary).containsEntry("version", 7L)
+                .containsEntry("present_days", 3L)
+                .containsEntry("absent_days", 1L)
+                .containsEntry("worked_seconds", 8 * 3600L + 4 * 3600L + 15 * 60L + 75 * 60L);
+
+        corrupt();
+        assertThat(attendanceProjector.rebuild(user.getId(), user.getId(), false)).isEqualTo(3);
+        assertThat(summary()).isEqualTo(summary);
+        assertThat(rows()).isEqualTo(rows);
+
+        corrupt();
+        // A day with no events behind it is dropped by a full rebuild.
+        jdbcTemplate.update("insert into attendance (id, user_id, date, status, worked_seconds) "
+                + "values (nextval('attendance_seq'), ?, ?, 'ABSENT', 0)", user.getId(), DAY_4.plusDays(1));
+        assertThat(attendanceProjector.rebuild(user.getId(), user.getId(), true)).isEqualTo(7);
+        assertThat(summary()).isEqualTo(summary);
+        assertThat(rows()).isEqualTo(rows);
+    }
+
+    private AttendanceEvent.AttendanceEventBuilder event(LocalDate date, AttendanceEventType type) {
+        return AttendanceEvent.builder().date(date).type(type).recordedBy(USERNAME);
+    }
+
+    private void append(AttendanceEvent.AttendanceEventBuilder event) {
+        attendanceProjector.append(user, event.build());
+    }
+
+    // Leaves the totals and the days touched after the snapshot wrong, so only a rebuild can restore them.
+    private void corrupt() {
+        jdbcTemplate.update("update attendance_summary set version = 0, present_days = 0, absent_days = 0, "
+                + "worked_seconds = 0 where user_id = ?", user.getId());
+        jdbcTemplate.update("update attendance set status = 'ABSENT', check_in_time = null, check_out_time = null, "
+                + "worked_seconds = 0 where user_id = ? and date <> ?", user.getId(), DAY_1);
+    }
+
+    private Map<String, Object> summary() {
+        return jdbcTemplate.queryForMap("select version, present_days, absent_days, worked_seconds "
+                + "from attendance_summary where user_id = ?", user.getId());
+    }
+
+    private List<Map<String, Object>> rows() {
+        return jdbcTemplate.queryForList("select id, date, status, check_in_time, check_out_time, worked_seconds "
+                + "from attendance where user_id = ? order by date", user.getId());
+    }
+}
@@ -0,0 +1,228 @@
+package com.ernoxin.atency.service;
+
+import com.ernoxin.atency.TestDatabase;
+import com.ernoxin.atency.dto.CalendarOverrideRequest;
+import com.ernoxin.atency.entity.Attendance;
+import com.ernoxin.atency.entity.AttendanceEvent;
+import com.ernoxin.atency.entity.AttendanceOutboxMessage;
+import com.ernoxin.atency.entity.User;
+import com.ernoxin.atency.exception.BadRequestException;
+import com.ernoxin.atency.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+/**
+ * Guards the statement budget of the bulk paths under the prod Hibernate settings: absence marking must
+ * insert in JDBC batches, the admin list endpoints must read with a fixed number of queries, and no read
+ * path may initialize an entity collection. A rejection that needs no data must not take a connection at all,
+ * a check-out must stay within the event log's statement budget, and a repeated check-in must not wait for
+ * the user's summary lock.
+ */
+// Statistics are global, so the outbox relay is kept from running in the background. The seeded users make
+// absence marking span several insert batches.
+@SpringBootTest(properties = {"spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.outbox.relay-interval-ms=3600000", "app.seed.users=120"})
+@ActiveProfiles("prod")
+// The context runs on its own database, which is dropped after the class.
+@DirtiesContext
+class AttendanceStatementCountTest {
+
+    private static final LocalDate DATE = LocalDate.of(2001, 1, 1);
+    private static final int BATCH_SIZE = 50;
+    private static final TestDatabase DATABASE = TestDatabase.create();
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private HikariDataSource standardDataSource;
+
+    private Statistics statistics;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        DATABASE.register(registry);
+    }
+
+    @AfterAll
+    static void dropDatabase() {
+        DATABASE.drop();
+    }
+
+    // Every user is registered before DATE, since nobody is marked absent before registering.
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        jdbcTemplate.update("truncate attendance_event, attendance_outbox, attendance, attendance_summary");
+        jdbcTemplate.update("update users set registered_on = ?", DATE.minusDays(1));
+        assertThat(calendarService.isWorkingDay(DATE)).isTrue();
+    }
+
+    @Test
+    void markAbsentForDateInsertsInBatches() {
+        long users = userRepository.count();
+        long batches = (users + BATCH_SIZE - 1) / BATCH_SIZE;
+
+        statistics.clear();
+        attendanceService.markAbsentForDate(DATE);
+
+        assertThat(statistics.getEntityStatistics(Attendance.class.getName()).getInsertCount()).isEqualTo(users);
+        assertThat(statistics.getEntityStatistics(AttendanceEvent.class.getName()).getInsertCount()).isEqualTo(users);
+        assertThat(statistics.getEntityStatistics(AttendanceOutboxMessage.class.getName()).getInsertCount())
+                .isEqualTo(users);
+        // min id, max id, user ids, missing summaries, locked summaries, recorded user ids; then per block
+        // one sequence call and one insert batch for events, rows and outbox messages each, and one summary
+        // update batch. Row-by-row writes would cost several statements per user instead.
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6 + 7 * batches);
+    }
+
+    @Test
+    void bulkReadsUseFixedNumberOfQueries() {
+        attendanceService.markAbsentForDate(DATE);
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        AtomicLong rows = new AtomicLong();
+
+        statistics.clear();
+        attendanceService.streamAllRecords(record -> rows.incrementAndGet());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(rows.get()).isGreaterThanOrEqualTo(userRepository.count());
+
+        statistics.clear();
+        attendanceService.getAllRecordsColumnar();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // The user existence check is answered by the second-level cache.
+        statistics.clear();
+        attendanceService.streamRecordsByUserId(admin.getId(), record -> {
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        attendanceService.getRecordsByUserIdColumnar(admin.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void readPathsNeverInitializeCollections() {
+        attendanceService.markAbsentForDate(DATE);
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+
+        statistics.clear();
+        userDetailsService.loadUserByUsername("admin");
+        attendanceService.getMyRecords("admin", null, null, null, 31);
+        attendanceService.getMyRecords("admin");
+        attendanceService.getMySummary("admin");
+        attendanceService.getSummaryByUserId(admin.getId());
+        attendanceService.streamAllRecords(record -> {
+        });
+        attendanceService.getAllRecordsColumnar();
+        attendanceService.streamRecordsByUserId(admin.getId(), record -> {
+        });
+        attendanceService.getRecordsByUserIdColumnar(admin.getId());
+        Set<User> users = new HashSet<>(userRepository.findAll());
+
+        assertThat(users).contains(admin);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    void rejectionBeforeFirstStatementTakesNoConnection() throws SQLException {
+        // With every connection held, a rejection that needed one would time out instead.
+        List<Connection> held = new ArrayList<>();
+        try {
+            for (int i = 0; i < standardDataSource.getMaximumPoolSize(); i++) {
+                held.add(standardDataSource.getConnection());
+            }
+            assertThatThrownBy(() -> attendanceService.getMyRecords("admin", null, null, null, 0))
+                    .isInstanceOf(BadRequestException.class)
+                    .satisfies(ex -> assertThat(ex.getStackTrace()).isEmpty());
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+    }
+
+    @Test
+    void checkOutStaysWithinStatementBudget() {
+        workToday();
+        attendanceService.checkIn("admin");
+
+        statistics.clear();
+        attendanceService.checkOut("admin");
+        // repeat check, summary lock, day read, event insert, row update, outbox insert, summary update; the
+        // event and outbox sequences are called once per allocation block at most.
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(7 + 2);
+    }
+
+    @Test
+    void repeatedCheckInIsRejectedWithoutTheSummaryLock() throws SQLException {
+        workToday();
+        attendanceService.checkIn("admin");
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+
+        try (Connection locker = standardDataSource.getConnection();
+             PreparedStatement lock = locker.prepareStatement(
+                     "select version from attendance_summary where user_id = ? for update")) {
+            locker.setAutoCommit(false);
+            lock.setLong(1, admin.getId());
+            lock.execute();
+            // Waiting for the lock would only end at the statement timeout.
+            assertTimeout(Duration.ofSeconds(2), () -> assertThatThrownBy(() -> attendanceService.checkIn("admin"))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessage("You have already checked in today"));
+            locker.rollback();
+        }
+    }
+
+    private void workToday() {
+        CalendarOverrideRequest workingToday = new CalendarOverrideRequest();
+        workingToday.setDate(LocalDate.now());
+        workingToday.setWorking(true);
+        calendarService.saveOverride(workingToday);
+    }
+}
@@ -0,0 +1,60 @@
+package com.ernoxin.atency.service;
+
+import com.ernoxin.atency.repository.CalendarOverrideRepository;
+import com.ernoxin.atency.service.impl.CalendarServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CalendarServiceTest {
+
+    private CalendarServiceImpl calendarService;
+
+    @BeforeEach
+    void setUp() {
+        CalendarOverrideRepository repository = mock(CalendarOverrideRepository.class);
+        when(repository.findAllByDateBetweenOrderByDateAsc(any(), any())).thenReturn(List.of());
+        calendarService = new CalendarServiceImpl(repository);
+        ReflectionTestUtils.setField(calendarService, "configuredWorkingDays", EnumSet.of(
+                DayOfWeek.SATURDAY, DayOfWeek.SUNDAY, DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY));
+        ReflectionTestUtils.setField(calendarService, "cachedYears", 2);
+        ReflectionTestUtils.invokeMethod(calendarService, "init");
+    }
+
+    @Test
+    void cachesOnlyYearsInsideTheWindow() {
+        int current = LocalDate.now().getYear();
+
+        int count = calendarService.countWorkingDays(LocalDate.of(1900, 1, 1), LocalDate.of(current + 5, 12, 31));
+
+        assertThat(count).isPositive();
+        assertThat(cachedYears()).containsOnlyKeys(current - 2, current - 1, current, current + 1);
+    }
+
+    @Test
+    void refreshDropsYearsThatLeftTheWindow() {
+        int current = LocalDate.now().getYear();
+        calendarService.isWorkingDay(LocalDate.of(current, 6, 1));
+        ReflectionTestUtils.setField(calendarService, "cachedYears", -1);
+
+        calendarService.refresh();
+
+        assertThat(cachedYears()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Integer, ?> cachedYears() {
+        return (Map<Integer, ?>) ReflectionTestUtils.getField(calendarService, "years");
+    }
+}
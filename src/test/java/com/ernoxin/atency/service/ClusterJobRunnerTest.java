@@ -0,0 +1,85 @@
+package com.ernoxin.atency.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that a lease is taken over only once it has expired on the database clock, that a job stops at its
+ * next step once another node has taken its lease over, and that the run is recorded as failed.
+ */
+@SpringBootTest(properties = {"app.cluster.lease-ttl=300ms", "app.outbox.relay-interval-ms=3600000"})
+// The short lease is only used here; closing the context returns its connections to the database.
+@DirtiesContext
+class ClusterJobRunnerTest {
+
+    private static final String JOB = "lease-test";
+    private static final int MAX_STEPS = 100;
+
+    @Autowired
+    private ClusterJobRunner clusterJobRunner;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void deleteTestRecords() {
+        jdbcTemplate.update("delete from job_run where job_name = ?", JOB);
+        jdbcTemplate.update("delete from job_lease where job_name = ?", JOB);
+    }
+
+    @Test
+    void takesOverOnlyExpiredLeases() {
+        jdbcTemplate.update("insert into job_lease (job_name, owner, acquired_at, expires_at) "
+                + "values (?, 'other-node', now(), now() + interval '1 hour')", JOB);
+        AtomicInteger runs = new AtomicInteger();
+        clusterJobRunner.runExclusively(JOB, runs::incrementAndGet);
+        assertThat(runs.get()).isZero();
+
+        jdbcTemplate.update("update job_lease set expires_at = now() - interval '1 second' where job_name = ?", JOB);
+        clusterJobRunner.runExclusively(JOB, runs::incrementAndGet);
+        assertThat(runs.get()).isOne();
+        // Released on the database clock, so the next run on any node may take it straight away.
+        assertThat(jdbcTemplate.queryForObject(
+                "select expires_at <= now() from job_lease where job_name = ?", Boolean.class, JOB)).isTrue();
+    }
+
+    @Test
+    void stopsJobOnceLeaseIsTakenOver() {
+        AtomicInteger steps = new AtomicInteger();
+        clusterJobRunner.runExclusively(JOB, lease -> {
+            jdbcTemplate.update("update job_lease set owner = 'other-node' where job_name = ?", JOB);
+            while (steps.get() < MAX_STEPS) {
+                lease.ensureHeld();
+                steps.incrementAndGet();
+                sleep();
+            }
+        });
+
+        assertThat(steps.get()).isLessThan(MAX_STEPS);
+        Map<String, Object> run = jdbcTemplate.queryForMap(
+                "select status, message from job_run where job_name = ?", JOB);
+        assertThat(run).containsEntry("status", "FAILED")
+                .containsEntry("message", "Lost lease for job " + JOB);
+        // The lease stays with the node that took it over.
+        assertThat(jdbcTemplate.queryForObject("select owner from job_lease where job_name = ?", String.class, JOB))
+                .isEqualTo("other-node");
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
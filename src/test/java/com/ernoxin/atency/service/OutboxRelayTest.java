@@ -0,0 +1,183 @@
+package com.ernoxin.atency.service;
+
+import com.ernoxin.atency.TestDatabase;
+import com.ernoxin.atency.dto.AttendanceChangeDto;
+import com.ernoxin.atency.dto.AttendanceChangesDto;
+import com.ernoxin.atency.entity.AttendanceEventType;
+import com.ernoxin.atency.entity.AttendanceStatus;
+import com.ernoxin.atency.exception.BadRequestException;
+import com.ernoxin.atency.outbox.ChangeEventSink;
+import com.ernoxin.atency.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Checks that absences marked for a day reach both the sink and the changes-since endpoint, once each and
+ * in position order, and that a batch the sink rejects goes out again under the positions it was given.
+ */
+@SpringBootTest(properties = "app.seed.users=20")
+// The context runs on its own database, which is dropped after the class.
+@DirtiesContext
+class OutboxRelayTest {
+
+    private static final LocalDate DATE = LocalDate.of(2001, 1, 2);
+    private static final TestDatabase DATABASE = TestDatabase.create();
+
+    @TempDir
+    static Path sinkDirectory;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoSpyBean
+    private ChangeEventSink changeEventSink;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        DATABASE.register(registry);
+        registry.add("app.outbox.sink", () -> "file");
+        registry.add("app.outbox.file.path", () -> sinkDirectory.resolve("changes.jsonl").toString());
+        // Relaying is driven by the test.
+        registry.add("app.outbox.relay-interval-ms", () -> "3600000");
+    }
+
+    @AfterAll
+    static void dropDatabase() {
+        DATABASE.drop();
+    }
+
+    // Absences are only marked from registration on, and the seeded users registered after DATE.
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("truncate attendance_event, attendance_outbox, attendance, attendance_summary");
+        jdbcTemplate.update("update users set registered_on = ?", DATE.minusDays(1));
+    }
+
+    @Test
+    void publishesMarkedAbsencesToSinkAndChangesSince() throws IOException {
+        drain();
+        long head = attendanceService.getChangesSince(null, 1).getNextCursor();
+        long sinkLines = sinkLines();
+        long users = userRepository.count();
+
+        attendanceService.markAbsentForDate(DATE);
+        assertThat(attendanceService.getChangesSince(head, 1000).getChanges()).isEmpty();
+        drain();
+
+        List<AttendanceChangeDto> changes = new ArrayList<>();
+        long cursor = head;
+        AttendanceChangesDto page;
+        do {
+            page = attendanceService.getChangesSince(cursor, 1000);
+            changes.addAll(page.getChanges());
+            cursor = page.getNextCursor();
+        } while (!page.getChanges().isEmpty());
+
+        assertThat(changes).hasSize((int) users)
+                .allSatisfy(change -> {
+                    assertThat(change.getType()).isEqualTo(AttendanceEventType.ABSENCE);
+                    assertThat(change.getStatus()).isEqualTo(AttendanceStatus.ABSENT);
+                    assertThat(change.getDate()).isEqualTo(DATE);
+                });
+        assertThat(changes).extracting(AttendanceChangeDto::getPosition)
+                .containsExactlyElementsOf(LongStream.rangeClosed(head + 1, head + users).boxed().toList());
+        assertThat(cursor).isEqualTo(head + users);
+        assertThat(sinkLines() - sinkLines).isEqualTo(users);
+    }
+
+    @Test
+    void retriesFailedBatchUnderSamePositions() {
+        drain();
+        long head = attendanceService.getChangesSince(null, 1).getNextCursor();
+        attendanceService.markAbsentForDate(DATE);
+        clearInvocations(changeEventSink);
+        doThrow(new IllegalStateException("sink unavailable")).doCallRealMethod()
+                .when(changeEventSink).publish(anyList());
+
+        assertThatThrownBy(outboxRelay::publishBatch).isInstanceOf(IllegalStateException.class);
+        // The failed batch is numbered for good, so pollers already see it.
+        List<AttendanceChangeDto> numbered = attendanceService.getChangesSince(head, 1000).getChanges();
+        assertThat(numbered).isNotEmpty();
+        drain();
+
+        ArgumentCaptor<List<AttendanceChangeDto>> batches = ArgumentCaptor.captor();
+        verify(changeEventSink, times(2)).publish(batches.capture());
+        for (List<AttendanceChangeDto> batch : batches.getAllValues()) {
+            assertThat(batch).extracting(AttendanceChangeDto::getPosition, AttendanceChangeDto::getUserId)
+                    .containsExactlyElementsOf(numbered.stream()
+                            .map(change -> tuple(change.getPosition(), change.getUserId()))
+                            .toList());
+        }
+    }
+
+    @Test
+    void skipsUsersRegisteredAfterTheDate() {
+        jdbcTemplate.update("update users set registered_on = ? where username = 'admin'", DATE.plusDays(1));
+        attendanceService.markAbsentForDate(DATE);
+
+        assertThat(jdbcTemplate.queryForObject("""
+                select count(*) from attendance a join users u on u.id = a.user_id
+                where a.date = ? and u.username = 'admin'
+                """, Long.class, DATE)).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from attendance where date = ?", Long.class, DATE))
+                .isEqualTo(userRepository.count() - 1);
+    }
+
+    @Test
+    void rejectsNegativeCursor() {
+        assertThatThrownBy(() -> attendanceService.getChangesSince(-1L, 10))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private void drain() {
+        while (outboxRelay.publishBatch()) {
+            // keep going until a partial batch shows the outbox is empty
+        }
+    }
+
+    private static long sinkLines() throws IOException {
+        Path path = sinkDirectory.resolve("changes.jsonl");
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (var lines = Files.lines(path)) {
+            return lines.count();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.ernoxin.atency.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchPatternsTest {
+
+    @Test
+    void lowerCasesAndTrimsQuery() {
+        assertThat(SearchPatterns.contains("  Ali Reza ")).isEqualTo("%ali reza%");
+        assertThat(SearchPatterns.startsWith("Ali")).isEqualTo("ali%");
+    }
+
+    @Test
+    void escapesWildcardsSoTheyMatchLiterally() {
+        assertThat(SearchPatterns.contains("50%_off\\")).isEqualTo("%50\\%\\_off\\\\%");
+    }
+}
@@ -0,0 +1,79 @@
+package com.ernoxin.atency.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the previous worked-time path (boxed {@code Long} to {@code Duration}, {@code String.format},
+ * {@code Duration::plus} reduction) with the primitive-seconds path over a 100k-row export.
+ * <p>
+ * Run with {@code ./mvnw test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main
+ * -Dexec.args="WorkedTimeFormatterBenchmark -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkedTimeFormatterBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    private Long[] storedSeconds;
+    private long[] seconds;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        storedSeconds = new Long[ROWS];
+        seconds = new long[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            long value = random.nextInt(10 * 60 * 60);
+            storedSeconds[i] = value;
+            seconds[i] = value;
+        }
+    }
+
+    @Benchmark
+    public void formatWithDuration(Blackhole blackhole) {
+        for (Long value : storedSeconds) {
+            Duration duration = Duration.ofSeconds(value);
+            long totalMinutes = duration.toMinutes();
+            blackhole.consume(String.format("%02d:%02d", totalMinutes / 60, totalMinutes % 60));
+        }
+    }
+
+    @Benchmark
+    public void formatWithPrimitiveSeconds(Blackhole blackhole) {
+        for (long value : seconds) {
+            blackhole.consume(WorkedTimeFormatter.format(value));
+        }
+    }
+
+    @Benchmark
+    public Duration sumWithDuration() {
+        return Arrays.stream(storedSeconds)
+                .map(Duration::ofSeconds)
+                .reduce(Duration.ZERO, Duration::plus);
+    }
+
+    @Benchmark
+    public long sumWithPrimitiveSeconds() {
+        return Arrays.stream(seconds).sum();
+    }
+}
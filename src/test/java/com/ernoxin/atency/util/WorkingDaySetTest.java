@@ -0,0 +1,50 @@
+package com.ernoxin.atency.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkingDaySetTest {
+
+    private static final Set<DayOfWeek> PATTERN = EnumSet.of(
+            DayOfWeek.SATURDAY, DayOfWeek.SUNDAY, DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY);
+
+    @Test
+    void overridesReplaceWeeklyPattern() {
+        LocalDate holiday = LocalDate.of(2024, 3, 20);
+        LocalDate extraDay = LocalDate.of(2024, 3, 21);
+        WorkingDaySet set = WorkingDaySet.of(2024, PATTERN, Map.of(holiday, false, extraDay, true));
+
+        assertThat(set.contains(holiday)).isFalse();
+        assertThat(set.contains(extraDay)).isTrue();
+        assertThat(set.contains(LocalDate.of(2024, 3, 22))).isFalse();
+        assertThat(set.contains(LocalDate.of(2024, 12, 31))).isTrue();
+    }
+
+    @Test
+    void countMatchesDayByDayCount() {
+        WorkingDaySet set = WorkingDaySet.of(2024, PATTERN, Map.of(LocalDate.of(2024, 2, 29), false));
+        LocalDate[] probes = {
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 5),
+                LocalDate.of(2024, 6, 30), LocalDate.of(2024, 12, 31)
+        };
+
+        for (LocalDate from : probes) {
+            for (LocalDate to : probes) {
+                int expected = 0;
+                for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                    if (set.contains(day)) {
+                        expected++;
+                    }
+                }
+                assertThat(set.count(from, to)).as("%s..%s", from, to).isEqualTo(expected);
+            }
+        }
+    }
+}